@@ -18,6 +18,11 @@
 
 package org.wso2.carbon.email.mgt.constants;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 public class TemplateMgtConstants {
 
     private TemplateMgtConstants() {}
@@ -25,6 +30,24 @@ public class TemplateMgtConstants {
     public static final String DEFAULT_EMAIL_NOTIFICATION_LOCALE = "en_US";
     public static final String DEFAULT_SMS_NOTIFICATION_LOCALE = "en_US";
 
+    /**
+     * Class which contains the placeholder keys and prefixes used to build the placeholder manifest of a template.
+     */
+    public static class TemplatePlaceholders {
+
+        public static final String URL_ENCODED_PLACEHOLDER_PREFIX = "url:";
+        public static final String USER_CLAIM_PLACEHOLDER_PREFIX = "user.claim";
+        public static final String IDENTITY_CLAIM_PLACEHOLDER_PREFIX = "user.claim.identity";
+        public static final String CONFIG_FILE_PLACEHOLDER_PREFIX = "server.placeholder";
+        public static final String UTM_PARAMETERS_PLACEHOLDER = "utm-parameters";
+        public static final Set<String> BRANDING_PLACEHOLDERS = Collections.unmodifiableSet(new HashSet<>(
+                Arrays.asList("organization.logo.img", "organization.logo.altText", "organization.copyright.text",
+                        "organization.support.mail", "organization-name", "organization.color.primary",
+                        "organization.color.background", "organization.font", "organization.font.color",
+                        "organization.button.font.color", "organization.theme.background.color",
+                        "organization.theme.border.color")));
+    }
+
     /**
      * Class which contains the error scenarios.
      */
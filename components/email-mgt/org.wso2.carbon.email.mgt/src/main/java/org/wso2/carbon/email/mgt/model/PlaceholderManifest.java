@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.model;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Immutable summary of the placeholders used in the subject, body and footer of a notification template. The manifest
+ * is built once per template content, so that the notification handlers can skip the claim, branding and URL
+ * resolution which the template never uses.
+ */
+public class PlaceholderManifest implements Serializable {
+
+    private static final long serialVersionUID = 4518236601754398142L;
+
+    private final Set<String> placeholders;
+    private final Set<String> referencedKeys;
+    private final Set<String> userClaimPlaceholders;
+    private final Set<String> identityClaimPlaceholders;
+    private final Set<String> brandingPlaceholders;
+    private final Set<String> configFilePlaceholders;
+    private final Set<String> urlEncodedPlaceholders;
+    private final boolean utmParametersUsed;
+
+    private PlaceholderManifest(Builder builder) {
+
+        this.placeholders = copyOf(builder.placeholders);
+        this.referencedKeys = copyOf(builder.referencedKeys);
+        this.userClaimPlaceholders = copyOf(builder.userClaimPlaceholders);
+        this.identityClaimPlaceholders = copyOf(builder.identityClaimPlaceholders);
+        this.brandingPlaceholders = copyOf(builder.brandingPlaceholders);
+        this.configFilePlaceholders = copyOf(builder.configFilePlaceholders);
+        this.urlEncodedPlaceholders = copyOf(builder.urlEncodedPlaceholders);
+        this.utmParametersUsed = builder.utmParametersUsed;
+    }
+
+    private static Set<String> copyOf(Set<String> values) {
+
+        return Collections.unmodifiableSet(new LinkedHashSet<>(values));
+    }
+
+    /**
+     * Get the distinct placeholders of the template as they appear in the content. URL encoded placeholders are
+     * returned with the "url:" prefix, eg: url:user-name.
+     *
+     * @return Placeholders of the template.
+     */
+    public Set<String> getPlaceholders() {
+
+        return placeholders;
+    }
+
+    /**
+     * Get the placeholder keys whose values are read when rendering the template. This contains the placeholders of
+     * the template together with the keys of the URL encoded placeholders without the "url:" prefix.
+     *
+     * @return Placeholder keys referenced by the template.
+     */
+    public Set<String> getReferencedKeys() {
+
+        return referencedKeys;
+    }
+
+    /**
+     * Check whether the value of the given placeholder key is read when rendering the template.
+     *
+     * @param key Placeholder key.
+     * @return True if the template references the key.
+     */
+    public boolean isReferenced(String key) {
+
+        return referencedKeys.contains(key);
+    }
+
+    public Set<String> getUserClaimPlaceholders() {
+
+        return userClaimPlaceholders;
+    }
+
+    public Set<String> getIdentityClaimPlaceholders() {
+
+        return identityClaimPlaceholders;
+    }
+
+    public Set<String> getBrandingPlaceholders() {
+
+        return brandingPlaceholders;
+    }
+
+    public Set<String> getConfigFilePlaceholders() {
+
+        return configFilePlaceholders;
+    }
+
+    /**
+     * Get the keys of the URL encoded placeholders without the "url:" prefix.
+     *
+     * @return Keys of the URL encoded placeholders.
+     */
+    public Set<String> getUrlEncodedPlaceholders() {
+
+        return urlEncodedPlaceholders;
+    }
+
+    public boolean isUtmParametersUsed() {
+
+        return utmParametersUsed;
+    }
+
+    @Override
+    public String toString() {
+
+        return "placeholders: " + placeholders + ", userClaims: " + userClaimPlaceholders + ", identityClaims: " +
+                identityClaimPlaceholders + ", branding: " + brandingPlaceholders + ", configFile: " +
+                configFilePlaceholders + ", urlEncoded: " + urlEncodedPlaceholders + ", utmParameters: " +
+                utmParametersUsed;
+    }
+
+    /**
+     * Builder of the {@link PlaceholderManifest}.
+     */
+    public static class Builder {
+
+        private final Set<String> placeholders = new LinkedHashSet<>();
+        private final Set<String> referencedKeys = new LinkedHashSet<>();
+        private final Set<String> userClaimPlaceholders = new LinkedHashSet<>();
+        private final Set<String> identityClaimPlaceholders = new LinkedHashSet<>();
+        private final Set<String> brandingPlaceholders = new LinkedHashSet<>();
+        private final Set<String> configFilePlaceholders = new LinkedHashSet<>();
+        private final Set<String> urlEncodedPlaceholders = new LinkedHashSet<>();
+        private boolean utmParametersUsed;
+
+        public Builder addPlaceholder(String placeholder) {
+
+            placeholders.add(placeholder);
+            referencedKeys.add(placeholder);
+            return this;
+        }
+
+        public Builder addUserClaimPlaceholder(String placeholder) {
+
+            userClaimPlaceholders.add(placeholder);
+            return this;
+        }
+
+        public Builder addIdentityClaimPlaceholder(String placeholder) {
+
+            identityClaimPlaceholders.add(placeholder);
+            return this;
+        }
+
+        public Builder addBrandingPlaceholder(String placeholder) {
+
+            brandingPlaceholders.add(placeholder);
+            return this;
+        }
+
+        public Builder addConfigFilePlaceholder(String placeholder) {
+
+            configFilePlaceholders.add(placeholder);
+            return this;
+        }
+
+        public Builder addUrlEncodedPlaceholder(String key) {
+
+            urlEncodedPlaceholders.add(key);
+            referencedKeys.add(key);
+            return this;
+        }
+
+        public Builder setUtmParametersUsed(boolean utmParametersUsed) {
+
+            this.utmParametersUsed = utmParametersUsed;
+            return this;
+        }
+
+        /**
+         * Add the placeholders of the given manifest, eg: to build the manifest of a template from the manifests of
+         * its subject, body and footer.
+         *
+         * @param manifest Placeholder manifest.
+         * @return This builder.
+         */
+        public Builder addManifest(PlaceholderManifest manifest) {
+
+            placeholders.addAll(manifest.placeholders);
+            referencedKeys.addAll(manifest.referencedKeys);
+            userClaimPlaceholders.addAll(manifest.userClaimPlaceholders);
+            identityClaimPlaceholders.addAll(manifest.identityClaimPlaceholders);
+            brandingPlaceholders.addAll(manifest.brandingPlaceholders);
+            configFilePlaceholders.addAll(manifest.configFilePlaceholders);
+            urlEncodedPlaceholders.addAll(manifest.urlEncodedPlaceholders);
+            utmParametersUsed |= manifest.utmParametersUsed;
+            return this;
+        }
+
+        public PlaceholderManifest build() {
+
+            return new PlaceholderManifest(this);
+        }
+    }
+}
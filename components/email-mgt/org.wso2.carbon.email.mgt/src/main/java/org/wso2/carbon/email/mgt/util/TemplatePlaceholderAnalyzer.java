@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.util;
+
+import org.wso2.carbon.email.mgt.constants.TemplateMgtConstants.TemplatePlaceholders;
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
+
+import java.util.Collection;
+
+/**
+ * Builds the {@link PlaceholderManifest} of notification template content from the placeholders of the content. The
+ * placeholders are parsed from the content by the notification handlers, which render them, hence the parsing rules
+ * are not repeated here.
+ */
+public class TemplatePlaceholderAnalyzer {
+
+    private TemplatePlaceholderAnalyzer() {
+
+    }
+
+    /**
+     * Build the placeholder manifest of the given placeholders. URL encoded placeholders are given with the "url:"
+     * prefix, eg: url:user-name.
+     *
+     * @param placeholders Distinct placeholders of the template content.
+     * @return Placeholder manifest.
+     */
+    public static PlaceholderManifest analyze(Collection<String> placeholders) {
+
+        PlaceholderManifest.Builder builder = new PlaceholderManifest.Builder();
+        for (String placeholder : placeholders) {
+            builder.addPlaceholder(placeholder);
+            if (placeholder.startsWith(TemplatePlaceholders.URL_ENCODED_PLACEHOLDER_PREFIX)) {
+                builder.addUrlEncodedPlaceholder(
+                        placeholder.substring(TemplatePlaceholders.URL_ENCODED_PLACEHOLDER_PREFIX.length()));
+            }
+            if (placeholder.startsWith(TemplatePlaceholders.CONFIG_FILE_PLACEHOLDER_PREFIX)) {
+                builder.addConfigFilePlaceholder(placeholder);
+            }
+            if (TemplatePlaceholders.BRANDING_PLACEHOLDERS.contains(placeholder)) {
+                builder.addBrandingPlaceholder(placeholder);
+            }
+            if (placeholder.contains(TemplatePlaceholders.IDENTITY_CLAIM_PLACEHOLDER_PREFIX)) {
+                builder.addIdentityClaimPlaceholder(placeholder);
+            } else if (placeholder.contains(TemplatePlaceholders.USER_CLAIM_PLACEHOLDER_PREFIX)) {
+                builder.addUserClaimPlaceholder(placeholder);
+            }
+            if (TemplatePlaceholders.UTM_PARAMETERS_PLACEHOLDER.equals(placeholder)) {
+                builder.setUtmParametersUsed(true);
+            }
+        }
+        return builder.build();
+    }
+}
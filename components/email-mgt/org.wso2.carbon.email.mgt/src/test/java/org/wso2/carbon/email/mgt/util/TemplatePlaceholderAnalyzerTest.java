@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Class that contains the test cases for TemplatePlaceholderAnalyzer class.
+ */
+public class TemplatePlaceholderAnalyzerTest {
+
+    @Test
+    public void testAnalyze() {
+
+        PlaceholderManifest manifest = TemplatePlaceholderAnalyzer.analyze(Arrays.asList("user.claim.givenname",
+                "organization.logo.img", "server.placeholder.support", "carbon.product-url", "url:user-name",
+                "utm-parameters", "user.claim.identity.accountLockedReason"));
+
+        assertEquals(manifest.getPlaceholders(), new HashSet<>(Arrays.asList("user.claim.givenname",
+                "organization.logo.img", "server.placeholder.support", "carbon.product-url", "url:user-name",
+                "utm-parameters", "user.claim.identity.accountLockedReason")));
+        assertEquals(manifest.getUserClaimPlaceholders(), Collections.singleton("user.claim.givenname"));
+        assertEquals(manifest.getIdentityClaimPlaceholders(),
+                Collections.singleton("user.claim.identity.accountLockedReason"));
+        assertEquals(manifest.getBrandingPlaceholders(), Collections.singleton("organization.logo.img"));
+        assertEquals(manifest.getConfigFilePlaceholders(), Collections.singleton("server.placeholder.support"));
+        assertEquals(manifest.getUrlEncodedPlaceholders(), Collections.singleton("user-name"));
+        assertTrue(manifest.isUtmParametersUsed());
+        assertTrue(manifest.isReferenced("user-name"));
+        assertTrue(manifest.isReferenced("carbon.product-url"));
+        assertFalse(manifest.isReferenced("account.recovery.endpoint-url"));
+    }
+
+    @Test
+    public void testAddManifest() {
+
+        PlaceholderManifest subjectManifest = TemplatePlaceholderAnalyzer.analyze(
+                Arrays.asList("user-name", "utm-parameters"));
+        PlaceholderManifest bodyManifest = TemplatePlaceholderAnalyzer.analyze(
+                Arrays.asList("organization-name", "url:user-name", "user.claim.givenname"));
+
+        PlaceholderManifest manifest = new PlaceholderManifest.Builder().addManifest(subjectManifest)
+                .addManifest(bodyManifest).build();
+
+        assertEquals(manifest.getPlaceholders(), new HashSet<>(Arrays.asList("user-name", "utm-parameters",
+                "organization-name", "url:user-name", "user.claim.givenname")));
+        assertEquals(manifest.getBrandingPlaceholders(), Collections.singleton("organization-name"));
+        assertEquals(manifest.getUrlEncodedPlaceholders(), Collections.singleton("user-name"));
+        assertEquals(manifest.getUserClaimPlaceholders(), Collections.singleton("user.claim.givenname"));
+        assertTrue(manifest.isUtmParametersUsed());
+    }
+}
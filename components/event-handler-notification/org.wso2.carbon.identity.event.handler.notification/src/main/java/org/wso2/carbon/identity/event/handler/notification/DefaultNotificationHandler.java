@@ -30,6 +30,9 @@ import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationEventSnapshot;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationPriority;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.TenantFairScheduler;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
@@ -65,6 +68,23 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
+        TenantFairScheduler tenantFairScheduler = NotificationHandlerDataHolder.getInstance().getTenantFairScheduler();
+        if (tenantFairScheduler != null) {
+            tenantFairScheduler.schedule(NotificationEventSnapshot.capture(event), getNotificationPriority(event),
+                    this::processEvent);
+            return;
+        }
+        processEvent(event);
+    }
+
+    /**
+     * Build the notification data of the given event and publish it to the notification stream.
+     *
+     * @param event Notification event.
+     * @throws IdentityEventException Error while building the notification data.
+     */
+    protected void processEvent(Event event) throws IdentityEventException {
+
         Map<String, String> arbitraryDataMap = buildNotificationData(event);
         publishToStream(arbitraryDataMap, event);
     }
@@ -175,9 +195,16 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
                 throw NotificationRuntimeException.error(message, exception);
             }
 
+            // SMS notifications resolve only the URL placeholders which are used by the template or the publishers.
+            Set<String> publisherMappedFields = null;
+            if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(notificationChannel)
+                    && NotificationHandlerDataHolder.getInstance().isRenderPublisherMappedFieldsOnly()) {
+                publisherMappedFields = NotificationUtil.getPublisherMappedFields(getStreamDefinitionID(event));
+            }
+
             // Add template properties for arbitraryDataMap.
             addNotificationTemplateDataToArbitraryDataMap(notificationTemplate, notificationTemplateName, sendTo,
-                    sendFrom, arbitraryDataMap, userClaims);
+                    sendFrom, arbitraryDataMap, userClaims, publisherMappedFields);
         }
         Map<String, String> arbitraryDataClaims = getArbitraryDataClaimsFromProperties(event);
         Set<String> keys = arbitraryDataClaims.keySet();
@@ -210,23 +237,27 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
      * @param sendFrom                 Notification send from address
      * @param arbitraryDataMap         Arbitrary data map
      * @param userClaims               User claims
+     * @param publisherMappedFields    Fields used by the event publishers, or null to resolve all placeholders
      */
     private void addNotificationTemplateDataToArbitraryDataMap(NotificationTemplate notificationTemplate,
             String notificationTemplateName, String sendTo, String sendFrom, Map<String, String> arbitraryDataMap,
-            Map<String, String> userClaims) {
+            Map<String, String> userClaims, Set<String> publisherMappedFields) {
 
         // Build Notification object using notification template data.
         // todo: Refer to https://github.com/wso2/product-is/issues/7006
         EmailTemplate emailTemplate = buildEmailTemplate(notificationTemplate);
         Notification notification = buildEmailNotification(emailTemplate, arbitraryDataMap, userClaims, sendTo,
-                sendFrom);
+                sendFrom, publisherMappedFields);
 
         // Add values to the arbitrary data map.
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_EVENT_TYPE,
                 I18nEmailUtil.getNormalizedName(notificationTemplateName));
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SEND_FROM, notification.getSendFrom());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
-                getTemplate().getBody());
+        boolean skipTemplateContent = NotificationHandlerDataHolder.getInstance().isSkipTemplateContentInEvent();
+        if (!skipTemplateContent) {
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
+                    getTemplate().getBody());
+        }
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_LOCALE, notification.getTemplate().
                 getLocale());
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SEND_TO, notification.getSendTo());
@@ -234,10 +265,12 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
 
         // Additional properties if the notification channel is not SMS.
         if (!NotificationChannels.SMS_CHANNEL.getChannelType().equals(notificationTemplate.getNotificationChannel())) {
-            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
-                    getTemplate().getSubject());
-            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
-                    getTemplate().getFooter());
+            if (!skipTemplateContent) {
+                arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
+                        getTemplate().getSubject());
+                arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
+                        getTemplate().getFooter());
+            }
             arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_CONTENT_TYPE, notification.
                     getTemplate().getEmailContentType());
             arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT, notification.getSubject());
@@ -273,17 +306,19 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
     /**
      * Build Email Notification from the emailTemplate and the arbitrary data.
      *
-     * @param emailTemplate    {@link org.wso2.carbon.email.mgt.model.EmailTemplate} object
-     * @param arbitraryDataMap Arbitrary data map
-     * @param userClaims       User claims
-     * @param sendTo           Notification send to address
-     * @param sendFrom         Notification send from address
+     * @param emailTemplate         {@link org.wso2.carbon.email.mgt.model.EmailTemplate} object
+     * @param arbitraryDataMap      Arbitrary data map
+     * @param userClaims            User claims
+     * @param sendTo                Notification send to address
+     * @param sendFrom              Notification send from address
+     * @param publisherMappedFields Fields used by the event publishers, or null to resolve all placeholders
      * @return {@link org.wso2.carbon.identity.event.handler.notification.email.bean.Notification} object
      */
     private Notification buildEmailNotification(EmailTemplate emailTemplate, Map<String, String> arbitraryDataMap,
-            Map<String, String> userClaims, String sendTo, String sendFrom) {
+            Map<String, String> userClaims, String sendTo, String sendFrom, Set<String> publisherMappedFields) {
 
-        NotificationUtil.getPlaceholderValues(emailTemplate, arbitraryDataMap, userClaims);
+        NotificationUtil.getPlaceholderValuesForPublishers(emailTemplate, arbitraryDataMap, userClaims,
+                publisherMappedFields);
         Notification.EmailNotificationBuilder builder = new Notification.EmailNotificationBuilder(sendTo);
         builder.setSendFrom(sendFrom);
         builder.setTemplate(emailTemplate);
@@ -336,6 +371,8 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
         Map<String, String> dataMap = new HashMap<>();
         String streamIdKey =  this.getName() + ".subscription." + event.getEventName() + "." + STREAM_DEFINITION_ID;
         String templateType =  this.getName() + ".subscription." + event.getEventName() + "." + NOTIFICATION_TEMPLATE_TYPE;
+        String priorityKey = this.getName() + ".subscription." + event.getEventName() + "." +
+                NotificationConstants.NOTIFICATION_PRIORITY;
         String claimKeyStartWith = this.getName() + ".subscription." + event.getEventName() + "." + "claim" ;
 
         Properties subscriptionProperties = getSubscriptionProperties(event.getEventName());
@@ -343,7 +380,7 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
         for (Object subscriptionPropertyKey : subscriptionPropertyKeys) {
             String key = (String)subscriptionPropertyKey;
             if(!key.startsWith(claimKeyStartWith) && !key.equalsIgnoreCase(streamIdKey) &&
-                    !key.equalsIgnoreCase(templateType)){
+                    !key.equalsIgnoreCase(templateType) && !key.equalsIgnoreCase(priorityKey)){
                 String keyPrefix = this.getName() + ".subscription." + event.getEventName();
                 String attribute = key.substring(keyPrefix.length() + 1);
                 String value = (String)subscriptionProperties.get(key);
@@ -370,4 +407,18 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
     protected String getNotificationTemplate(Event event) throws IdentityEventException {
         return getSubscriptionProperty(NOTIFICATION_TEMPLATE_TYPE, event.getEventName());
     }
+
+    /**
+     * Get the priority of the given event from the priority property of the subscription, eg:
+     * {handler name}.subscription.{event name}.priority=critical.
+     *
+     * @param event Notification event.
+     * @return Notification priority, or interactive if the priority is not configured.
+     * @throws IdentityEventException Error while reading the subscription property.
+     */
+    protected NotificationPriority getNotificationPriority(Event event) throws IdentityEventException {
+
+        return NotificationPriority.fromName(getSubscriptionProperty(NotificationConstants.NOTIFICATION_PRIORITY,
+                event.getEventName()), NotificationPriority.INTERACTIVE);
+    }
 }
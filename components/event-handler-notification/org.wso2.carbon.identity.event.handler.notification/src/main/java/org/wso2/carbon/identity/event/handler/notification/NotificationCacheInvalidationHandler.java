@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationNameCache;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.template.RenderedTemplateCache;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.CacheInvalidation.CACHE_INVALIDATION_HANDLER_NAME;
+import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.CacheInvalidation.ORGANIZATION_ID;
+import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.CacheInvalidation.POST_DELETE_ORGANIZATION_EVENT;
+import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.CacheInvalidation.POST_PATCH_ORGANIZATION_EVENT;
+import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.CacheInvalidation.POST_UPDATE_ORGANIZATION_EVENT;
+
+/**
+ * Event handler which removes the cached notification data affected by organization changes, eg: the cached name
+ * of an organization and the templates rendered with it when the organization is renamed. Entries are removed in the
+ * scope of the tenant of the organization, hence the removal is propagated to the other nodes of the cluster by the
+ * cache.
+ */
+public class NotificationCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log log = LogFactory.getLog(NotificationCacheInvalidationHandler.class);
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        String eventName = event.getEventName();
+        return POST_UPDATE_ORGANIZATION_EVENT.equals(eventName) || POST_PATCH_ORGANIZATION_EVENT.equals(eventName)
+                || POST_DELETE_ORGANIZATION_EVENT.equals(eventName);
+    }
+
+    @Override
+    public boolean isEnabled(MessageContext messageContext) {
+
+        return true;
+    }
+
+    @Override
+    public String getName() {
+
+        return CACHE_INVALIDATION_HANDLER_NAME;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        Object organizationId = event.getEventProperties().get(ORGANIZATION_ID);
+        if (organizationId == null || StringUtils.isBlank(organizationId.toString())) {
+            // The affected organization is not known, hence the cached names expire after the time to live.
+            if (log.isDebugEnabled()) {
+                log.debug("Organization ID is not available in the event: " + event.getEventName());
+            }
+            return;
+        }
+        String tenantDomain = resolveTenantDomain(organizationId.toString());
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidating the cached notification data of the organization: " + organizationId +
+                    " of the tenant: " + tenantDomain + " for the event: " + event.getEventName());
+        }
+        try {
+            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            OrganizationNameCache.getInstance().invalidate(tenantId);
+            RenderedTemplateCache.getInstance().invalidate(tenantId);
+        } catch (IdentityRuntimeException e) {
+            // The tenant of a deleted organization may not be resolved. Its entries are removed with the tenant.
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the tenant: " + tenantDomain + " of the organization: " +
+                        organizationId, e);
+            }
+        }
+    }
+
+    /**
+     * Resolve the tenant domain of the given organization. The tenant domain of an organization which is not a root
+     * organization is the organization ID, which is used when the organization can no longer be resolved.
+     *
+     * @param organizationId Organization ID.
+     * @return Tenant domain of the organization.
+     */
+    private static String resolveTenantDomain(String organizationId) {
+
+        try {
+            String tenantDomain = NotificationHandlerDataHolder.getInstance().getOrganizationManager()
+                    .resolveTenantDomain(organizationId);
+            if (StringUtils.isNotBlank(tenantDomain)) {
+                return tenantDomain;
+            }
+        } catch (OrganizationManagementException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the tenant domain of the organization: " + organizationId, e);
+            }
+        }
+        return organizationId;
+    }
+}
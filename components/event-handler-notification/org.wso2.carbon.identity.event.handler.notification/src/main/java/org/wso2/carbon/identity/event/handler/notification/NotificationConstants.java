@@ -34,9 +34,59 @@ public class NotificationConstants {
     public static final String TENANT_DOMAIN = "tenant-domain";
     public static final String IS_FEDERATED_USER = "isFederatedUser";
     public static final String FEDERATED_USER_CLAIMS = "federatedUserClaims";
+    public static final String PREFETCHED_USER_CLAIMS = "prefetchedUserClaims";
+    public static final String PREFETCHED_CLAIM_URIS = "prefetchedClaimURIs";
+    public static final String USER_IDENTITY_CLAIMS = "UserIdentityClaims";
     public static final String IGNORE_IF_TEMPLATE_NOT_FOUND = "ignoreIfTemplateNotFound";
     public static final String FLOW_TYPE = "flowType";
     public static final String REGISTRATION_FLOW = "registration";
+    public static final String COMPILED_TEMPLATE_CACHE_ENABLE = "Notification.CompiledTemplateCache.Enable";
+    public static final String COMPILED_TEMPLATE_CACHE_TIME_TO_LIVE = "Notification.CompiledTemplateCache.TimeToLive";
+    public static final String SKIP_TEMPLATE_CONTENT_IN_EVENT = "Notification.SkipTemplateContentInEvent";
+    public static final String RENDER_PUBLISHER_MAPPED_FIELDS_ONLY = "Notification.RenderPublisherMappedFieldsOnly";
+    public static final String RESOLVE_TEMPLATE_PLACEHOLDERS_ONLY = "Notification.ResolveTemplatePlaceholdersOnly";
+    public static final String FETCH_TEMPLATE_CLAIMS_ONLY = "Notification.FetchTemplateClaimsOnly";
+    public static final String USER_CLAIM_BATCH_SIZE = "Notification.UserClaimBatchSize";
+    public static final String ASYNC_DISPATCH_ENABLE = "Notification.AsyncDispatch.Enable";
+    public static final String ASYNC_DISPATCH_QUEUE_SIZE = "Notification.AsyncDispatch.QueueSize";
+    public static final String ASYNC_DISPATCH_WORKER_COUNT = "Notification.AsyncDispatch.WorkerCount";
+    public static final String ASYNC_DISPATCH_OVERFLOW_POLICY = "Notification.AsyncDispatch.OverflowPolicy";
+    public static final String ASYNC_DISPATCH_VIRTUAL_THREADS_ENABLE =
+            "Notification.AsyncDispatch.VirtualThreads.Enable";
+    public static final String ASYNC_DISPATCH_TENANT_CONCURRENCY = "Notification.AsyncDispatch.TenantConcurrency";
+    public static final String PRIORITY_LANES_ENABLE = "Notification.AsyncDispatch.PriorityLanes.Enable";
+    public static final String PRIORITY_LANE_QUEUE_SIZE = "Notification.AsyncDispatch.PriorityLanes.%s.QueueSize";
+    public static final String PRIORITY_LANE_WORKER_COUNT = "Notification.AsyncDispatch.PriorityLanes.%s.WorkerCount";
+    public static final String PRIORITY_LANE_OVERFLOW_POLICY =
+            "Notification.AsyncDispatch.PriorityLanes.%s.OverflowPolicy";
+    public static final String PRIORITY_LANE_MAX_WAIT = "Notification.AsyncDispatch.PriorityLanes.%s.MaxWait";
+    public static final String NOTIFICATION_PRIORITY = "priority";
+    public static final String FAIR_SCHEDULING_ENABLE = "Notification.FairScheduling.Enable";
+    public static final String FAIR_SCHEDULING_WORKER_COUNT = "Notification.FairScheduling.WorkerCount";
+    public static final String FAIR_SCHEDULING_QUEUE_SIZE = "Notification.FairScheduling.QueueSize";
+    public static final String FAIR_SCHEDULING_OVERFLOW_POLICY = "Notification.FairScheduling.OverflowPolicy";
+    public static final String FAIR_SCHEDULING_DEFAULT_WEIGHT = "Notification.FairScheduling.DefaultWeight";
+    public static final String FAIR_SCHEDULING_DEFAULT_MAX_CONCURRENCY =
+            "Notification.FairScheduling.DefaultMaxConcurrency";
+    public static final String FAIR_SCHEDULING_TENANT_CONFIGS = "Notification.FairScheduling.TenantConfigs";
+    public static final String RENDERED_TEMPLATE_CACHE_ENABLE = "Notification.RenderedTemplateCache.Enable";
+    public static final String RENDERED_TEMPLATE_CACHE_TIME_TO_LIVE = "Notification.RenderedTemplateCache.TimeToLive";
+    public static final String BRANDING_PREFERENCE_CACHE_ENABLE = "Notification.BrandingPreferenceCache.Enable";
+    public static final String BRANDING_PREFERENCE_CACHE_TIME_TO_LIVE =
+            "Notification.BrandingPreferenceCache.TimeToLive";
+    public static final String URL_PROFILE_CACHE_ENABLE = "Notification.UrlProfileCache.Enable";
+    public static final String URL_PROFILE_CACHE_TIME_TO_LIVE = "Notification.UrlProfileCache.TimeToLive";
+    public static final String ORGANIZATION_NAME_CACHE_ENABLE = "Notification.OrganizationNameCache.Enable";
+    public static final String ORGANIZATION_NAME_CACHE_TIME_TO_LIVE =
+            "Notification.OrganizationNameCache.TimeToLive";
+    public static final String ORGANIZATION_ID_CACHE_ENABLE = "Notification.OrganizationIdCache.Enable";
+    public static final String ORGANIZATION_ID_CACHE_TIME_TO_LIVE = "Notification.OrganizationIdCache.TimeToLive";
+    public static final String APPLICATION_UUID_CACHE_ENABLE = "Notification.ApplicationUuidCache.Enable";
+    public static final String APPLICATION_UUID_CACHE_TIME_TO_LIVE = "Notification.ApplicationUuidCache.TimeToLive";
+    public static final String USER_CLAIM_CACHE_ENABLE = "Notification.UserClaimCache.Enable";
+    public static final String USER_CLAIM_CACHE_TIME_TO_LIVE = "Notification.UserClaimCache.TimeToLive";
+    public static final String PUBLISHER_MAPPED_FIELDS_CACHE_TIME_TO_LIVE =
+            "Notification.PublisherMappedFieldsCache.TimeToLive";
 
     public static class EmailNotification {
         public static final String EMAIL_TEMPLATE_PATH = "identity/Email/";
@@ -238,4 +288,19 @@ public class NotificationConstants {
             public static final String TENANT_DOMAIN = "tenant domain";
         }
     }
+
+    /**
+     * Define the constants of the events which invalidate the notification caches.
+     */
+    public static class CacheInvalidation {
+
+        private CacheInvalidation() {
+        }
+
+        public static final String CACHE_INVALIDATION_HANDLER_NAME = "NotificationCacheInvalidationHandler";
+        public static final String POST_UPDATE_ORGANIZATION_EVENT = "POST_UPDATE_ORGANIZATION";
+        public static final String POST_PATCH_ORGANIZATION_EVENT = "POST_PATCH_ORGANIZATION";
+        public static final String POST_DELETE_ORGANIZATION_EVENT = "POST_DELETE_ORGANIZATION";
+        public static final String ORGANIZATION_ID = "ORGANIZATION_ID";
+    }
 }
@@ -27,15 +27,19 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationEventSnapshot;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.PriorityLaneDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.TenantFairScheduler;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
-import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.utils.DiagnosticLog;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This is the Email and SMS Notification Handler which connected to the direct CEP stream.
@@ -46,10 +50,47 @@ public class NotificationHandler extends DefaultNotificationHandler {
 
     private static final Log log = LogFactory.getLog(NotificationHandler.class);
     private static final String STREAM_ID = "id_gov_notify_stream:1.0.0";
+    // Number of notification fields added to the arbitrary data map in addition to the placeholder data.
+    private static final int NOTIFICATION_FIELD_COUNT = 14;
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
+        TenantFairScheduler tenantFairScheduler = NotificationHandlerDataHolder.getInstance().getTenantFairScheduler();
+        if (tenantFairScheduler != null) {
+            // The priority lanes and the asynchronous dispatcher are not created when fair scheduling is enabled,
+            // hence the scheduler orders the events by their priority.
+            tenantFairScheduler.schedule(NotificationEventSnapshot.capture(event), getNotificationPriority(event),
+                    this::processEvent);
+            return;
+        }
+        PriorityLaneDispatcher priorityLaneDispatcher =
+                NotificationHandlerDataHolder.getInstance().getPriorityLaneDispatcher();
+        if (priorityLaneDispatcher != null) {
+            priorityLaneDispatcher.dispatch(NotificationEventSnapshot.capture(event), getNotificationPriority(event),
+                    this::processEvent);
+            return;
+        }
+        NotificationDispatcher notificationDispatcher =
+                NotificationHandlerDataHolder.getInstance().getNotificationDispatcher();
+        if (notificationDispatcher != null) {
+            // The event is processed by a dispatcher worker, hence the caller does not wait for the notification. An
+            // error while processing it is logged and counted by the dispatcher instead of being thrown here.
+            notificationDispatcher.dispatch(NotificationEventSnapshot.capture(event), this::processEvent);
+            return;
+        }
+        processEvent(event);
+    }
+
+    /**
+     * Build the notification of the given event and publish it to the notification stream.
+     *
+     * @param event Notification event.
+     * @throws IdentityEventException Error while building the notification.
+     */
+    @Override
+    protected void processEvent(Event event) throws IdentityEventException {
+
         //We can set the notification template from the identity-even.properties file as a property of the subscription
         //property. Then it will get the first priority.
         String notificationTemplate = getNotificationTemplate(event);
@@ -82,9 +123,7 @@ public class NotificationHandler extends DefaultNotificationHandler {
         try {
             if (StringUtils.isNotBlank(tenantDomain)) {
                 // Resolve the organization id and add to attribute data map.
-                OrganizationManager organizationManager =
-                        NotificationHandlerDataHolder.getInstance().getOrganizationManager();
-                String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+                String organizationId = NotificationUtil.resolveOrganizationId(tenantDomain);
                 arbitraryDataMap.put(NotificationConstants.EmailNotification.ORGANIZATION_ID_PLACEHOLDER,
                         organizationId);
             }
@@ -113,10 +152,13 @@ public class NotificationHandler extends DefaultNotificationHandler {
     protected void publishToStream(Notification notification, Map<String, String> placeHolderDataMap) {
 
         EventStreamService service = NotificationHandlerDataHolder.getInstance().getEventStreamService();
+        boolean skipTemplateContent = NotificationHandlerDataHolder.getInstance().isSkipTemplateContentInEvent();
 
         org.wso2.carbon.databridge.commons.Event databridgeEvent = new org.wso2.carbon.databridge.commons.Event();
         databridgeEvent.setTimeStamp(System.currentTimeMillis());
-        Map<String, String> arbitraryDataMap = new HashMap<>();
+        // Size the map up front to avoid rehashing while copying the placeholder data.
+        Map<String, String> arbitraryDataMap = new HashMap<>(
+                (int) ((placeHolderDataMap.size() + NOTIFICATION_FIELD_COUNT) / 0.75f) + 1);
 
         databridgeEvent.setStreamId(placeHolderDataMap.remove("tmp-stream-id"));
 
@@ -129,29 +171,43 @@ public class NotificationHandler extends DefaultNotificationHandler {
         arbitraryDataMap.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN,
                 placeHolderDataMap.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN));
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SEND_FROM, notification.getSendFrom());
-        for (Map.Entry<String, String> placeHolderDataEntry : placeHolderDataMap.entrySet()) {
-            arbitraryDataMap.put(placeHolderDataEntry.getKey(), placeHolderDataEntry.getValue());
+        arbitraryDataMap.putAll(placeHolderDataMap);
+        if (!skipTemplateContent) {
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
+                    getTemplate().getSubject());
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
+                    getTemplate().getBody());
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
+                    getTemplate().getFooter());
         }
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
-                getTemplate().getSubject());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
-                getTemplate().getBody());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
-                getTemplate().getFooter());
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_LOCALE, notification.getTemplate().
                 getLocale());
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_CONTENT_TYPE, notification.
                 getTemplate().getEmailContentType());
         arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SEND_TO, notification.getSendTo());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT, notification.getSubject());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY, notification.getBody());
-        arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER, notification.getFooter());
+        // The notification parts are rendered only if they are used by a publisher of the stream.
+        Set<String> mappedFields = NotificationHandlerDataHolder.getInstance().isRenderPublisherMappedFieldsOnly() ?
+                NotificationUtil.getPublisherMappedFields(databridgeEvent.getStreamId()) : null;
+        if (isMappedField(mappedFields, NotificationConstants.EmailNotification.ARBITRARY_SUBJECT)) {
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_SUBJECT, notification.getSubject());
+        }
+        if (isMappedField(mappedFields, NotificationConstants.EmailNotification.ARBITRARY_BODY)) {
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_BODY, notification.getBody());
+        }
+        if (isMappedField(mappedFields, NotificationConstants.EmailNotification.ARBITRARY_FOOTER)) {
+            arbitraryDataMap.put(NotificationConstants.EmailNotification.ARBITRARY_FOOTER, notification.getFooter());
+        }
 
 
         databridgeEvent.setArbitraryDataMap(arbitraryDataMap);
         service.publish(databridgeEvent);
     }
 
+    private static boolean isMappedField(Set<String> mappedFields, String field) {
+
+        return mappedFields == null || mappedFields.contains(field);
+    }
+
 
     @Override
     public String getStreamDefinitionID(Event event) throws IdentityEventException {
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledPushNotificationTemplate;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.push.provider.exception.PushProviderException;
@@ -35,16 +36,10 @@ import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSe
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.PushSenderDTO;
 import org.wso2.carbon.identity.notification.sender.tenant.config.exception.NotificationSenderManagementException;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification.ORGANIZATION_NAME_PLACEHOLDER;
@@ -60,7 +55,6 @@ import static org.wso2.carbon.identity.event.handler.notification.NotificationCo
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotification.PUSH_NOTIFICATION_HANDLER_NAME;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotification.REQUEST_DEVICE_BROWSER;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotification.REQUEST_DEVICE_OS;
-import static org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil.extractPlaceHolders;
 
 /**
  * This class represents the push notification event handler.
@@ -83,7 +77,7 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
     }
 
     @Override
-    public void handleEvent(Event event) throws IdentityEventException {
+    protected void processEvent(Event event) throws IdentityEventException {
 
         String tenantDomain = (String) event.getEventProperties().get(NotificationConstants.TENANT_DOMAIN);
         if (StringUtils.isBlank(tenantDomain)) {
@@ -94,9 +88,7 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         }
 
         try {
-            OrganizationManager organizationManager =
-                    NotificationHandlerDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = NotificationUtil.resolveOrganizationId(tenantDomain);
             event.getEventProperties().put(
                     NotificationConstants.EmailNotification.ORGANIZATION_ID_PLACEHOLDER, organizationId);
         } catch (OrganizationManagementException e) {
@@ -177,22 +169,18 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
 
         String scenario = (String) eventProperties.get(NOTIFICATION_SCENARIO);
 
-        NotificationConstants.PushNotificationTemplate template =
-                Arrays.stream(NotificationConstants.PushNotificationTemplate.values())
-                        .filter(pushNotificationTemplate -> pushNotificationTemplate.getScenario().equals(scenario))
-                        .findFirst()
-                        .orElseThrow(() -> new IdentityEventException(
-                                "Push notification template not found for the scenario: " + scenario));
-
-        Set<String> placeHolderSet = new HashSet<>();
-        placeHolderSet.addAll(extractPlaceHolders(template.getTitle()));
-        placeHolderSet.addAll(extractPlaceHolders(template.getBody()));
+        CompiledPushNotificationTemplate template = CompiledPushNotificationTemplate.getTemplate(scenario);
+        if (template == null) {
+            throw new IdentityEventException("Push notification template not found for the scenario: " + scenario);
+        }
 
         // Validate if there are invalid placeholders.
-        validatePlaceHolders(placeHolderSet);
+        if (template.getInvalidPlaceholder() != null) {
+            throw new IdentityEventException("Invalid placeholder found: " + template.getInvalidPlaceholder());
+        }
 
         // Retrieve the placeholder values from the event properties.
-        Map<String, String> placeholderValues = getPlaceHolderValues(eventProperties, placeHolderSet);
+        Map<String, String> placeholderValues = template.getPlaceholderValues(eventProperties);
 
         // Resolve the organization name placeholder.
         String tenantDomain = placeholderValues.get(
@@ -218,8 +206,8 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         }
 
         // Replace the placeholders in the push notification template with the actual values.
-        String title = replacePlaceHolders(template.getTitle(), placeholderValues);
-        String body = replacePlaceHolders(template.getBody(), placeholderValues);
+        String title = template.getTitle().render(placeholderValues);
+        String body = template.getBody().render(placeholderValues);
 
         return new PushNotificationData.Builder()
                 .setNotificationTitle(title)
@@ -243,70 +231,6 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
                 .build();
     }
 
-    /**
-     * Validate the placeholders in the push notification template.
-     *
-     * @param placeHolderSet Set of placeholders.
-     * @throws IdentityEventException If an invalid placeholder is found.
-     */
-    private void validatePlaceHolders(Set<String> placeHolderSet) throws IdentityEventException {
-
-        Set<String> validPlaceHolders = Arrays.stream(NotificationConstants.PushNotificationPlaceholder.values())
-                .map(NotificationConstants.PushNotificationPlaceholder::getPlaceholder).collect(Collectors.toSet());
-
-        for (String placeHolder : placeHolderSet) {
-            if (!validPlaceHolders.contains(placeHolder)) {
-                throw new IdentityEventException("Invalid placeholder found: " + placeHolder);
-            }
-        }
-    }
-
-    /**
-     * Get the placeholder values from the event properties.
-     *
-     * @param eventProperties Event properties.
-     * @param placeholderSet  Set of placeholders.
-     * @return Map of placeholder values.
-     */
-    private Map<String, String> getPlaceHolderValues(Map<String, Object> eventProperties, Set<String> placeholderSet) {
-
-        NotificationConstants.PushNotificationPlaceholder[] placeHolderKeys =
-                NotificationConstants.PushNotificationPlaceholder.values();
-        Map<String, String> placeholderValues = new HashMap<>();
-
-        for (String placeHolder : placeholderSet) {
-            NotificationConstants.PushNotificationPlaceholder matchedKey = Arrays.stream(placeHolderKeys)
-                    .filter(key -> key.getPlaceholder().equalsIgnoreCase(placeHolder))
-                    .findFirst()
-                    .orElse(null);
-
-            // If a matching key is found, retrieve the corresponding value from event properties
-            if (matchedKey != null) {
-                String value = (String) eventProperties.get(matchedKey.getPlaceholder());
-                placeholderValues.put(placeHolder, value);
-            }
-        }
-
-        return placeholderValues;
-    }
-
-    /**
-     * Replace the placeholders in the push notification template with the actual values.
-     *
-     * @param content           Push notification template content.
-     * @param placeholderValues Map of placeholder values.
-     * @return Push notification content with placeholders replaced.
-     */
-    private String replacePlaceHolders(String content, Map<String, String> placeholderValues) {
-
-        for (Map.Entry<String, String> entry : placeholderValues.entrySet()) {
-            String placeholder = entry.getKey();
-            String value = entry.getValue();
-            content = content.replace("{{" + placeholder + "}}", value);
-        }
-        return content;
-    }
-
     /**
      * Build PushSenderData from PushSenderDTO.
      *
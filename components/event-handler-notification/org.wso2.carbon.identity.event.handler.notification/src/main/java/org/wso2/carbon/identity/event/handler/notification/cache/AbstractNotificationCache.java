@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class of the caches used while building notifications. The caches are built on the {@link BaseCache}, hence
+ * they are cluster aware and their capacity and timeout are configured in the identity.xml with the cache name.
+ * Entries are added in the scope of a tenant, so that all the entries of a tenant can be removed at once. In addition
+ * to the cache timeout, entries expire after the configured time to live, so that changes done through other
+ * components are picked up without an explicit invalidation. Caches are disabled by default and do not hold any
+ * entry until they are enabled.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ */
+public abstract class AbstractNotificationCache<K extends Serializable, V extends Serializable>
+        extends BaseCache<K, AbstractNotificationCache.CacheEntry<V>> {
+
+    private static final Log log = LogFactory.getLog(AbstractNotificationCache.class);
+
+    private final String cacheName;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong expiryCount = new AtomicLong();
+    private volatile boolean enabled = false;
+    private volatile long timeToLiveMillis;
+
+    protected AbstractNotificationCache(String cacheName, long timeToLiveSeconds) {
+
+        super(cacheName);
+        this.cacheName = cacheName;
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+    }
+
+    /**
+     * Get the cached value of the given key.
+     *
+     * @param key      Cache key.
+     * @param tenantId Tenant ID of the cache entry.
+     * @return Cached value, or null if the cache is disabled or the value is not cached or expired.
+     */
+    protected V getValue(K key, int tenantId) {
+
+        if (key == null || !isEnabled()) {
+            return null;
+        }
+        CacheEntry<V> entry = getValueFromCache(key, tenantId);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            clearCacheEntry(key, tenantId);
+            expiryCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Add the given value to the cache. The value is ignored if the cache is disabled.
+     *
+     * @param key      Cache key.
+     * @param value    Value to be cached.
+     * @param tenantId Tenant ID of the cache entry.
+     */
+    protected void addValue(K key, V value, int tenantId) {
+
+        if (key == null || value == null || !isEnabled()) {
+            return;
+        }
+        addToCache(key, new CacheEntry<>(value, System.currentTimeMillis() + timeToLiveMillis), tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug(cacheName + " hits: " + hitCount.get() + ", misses: " + missCount.get() + ", expiries: " +
+                    expiryCount.get());
+        }
+    }
+
+    /**
+     * Count a lookup which is served without reading the cache, eg: from a node local copy of a cached value.
+     */
+    protected void countHit() {
+
+        hitCount.incrementAndGet();
+    }
+
+    /**
+     * Remove the cached value of the given key.
+     *
+     * @param key      Cache key.
+     * @param tenantId Tenant ID of the cache entry.
+     */
+    protected void removeValue(K key, int tenantId) {
+
+        if (key != null) {
+            clearCacheEntry(key, tenantId);
+        }
+    }
+
+    /**
+     * Enable or disable the cache. Entries are still stored and removed through the {@link BaseCache}, hence
+     * disabling the cache only stops the cache from being used.
+     *
+     * @param enabled Whether the cache is enabled.
+     */
+    public void setEnabled(boolean enabled) {
+
+        this.enabled = enabled;
+    }
+
+    /**
+     * Check whether the cache is enabled for notifications and in the cache configuration of the identity.xml.
+     *
+     * @return True if the cache is enabled.
+     */
+    @Override
+    public boolean isEnabled() {
+
+        return enabled && super.isEnabled();
+    }
+
+    /**
+     * Set the time to live of the cache entries.
+     *
+     * @param timeToLiveSeconds Time to live in seconds. Non positive values are ignored.
+     */
+    public void setTimeToLive(long timeToLiveSeconds) {
+
+        if (timeToLiveSeconds <= 0) {
+            log.warn("Invalid " + cacheName + " time to live: " + timeToLiveSeconds + ". Using the time to live: " +
+                    TimeUnit.MILLISECONDS.toSeconds(timeToLiveMillis) + " seconds.");
+            return;
+        }
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+    }
+
+    public long getTimeToLive() {
+
+        return TimeUnit.MILLISECONDS.toSeconds(timeToLiveMillis);
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the ratio of the lookups which found a cached value.
+     *
+     * @return Hit ratio between 0 and 1, or 0 if there are no lookups.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Get the number of entries found expired on a lookup. Entries evicted by the capacity of the cache are removed
+     * by the caching service and are not counted.
+     *
+     * @return Number of expired entries.
+     */
+    public long getExpiryCount() {
+
+        return expiryCount.get();
+    }
+
+    /**
+     * Cached value together with the time it expires, which is serialized with the value when the cache is
+     * distributed.
+     *
+     * @param <V> Cache value type.
+     */
+    protected static final class CacheEntry<V extends Serializable> implements Serializable {
+
+        private static final long serialVersionUID = 4218961785462337121L;
+
+        private final V value;
+        private final long expiryTime;
+
+        private CacheEntry(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+
+            return now >= expiryTime;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import java.io.Serializable;
+
+/**
+ * Cache of the resource IDs of applications, keyed by the application name in the scope of the tenant of the
+ * application. Applications which are not found are cached as well, so that events carrying an unknown service
+ * provider name do not look up the application for every notification. The entry of an application is removed when
+ * the application is created or deleted, the entries of a tenant are removed when an application of the tenant is
+ * updated, since the previous name of a renamed application is not known, and entries expire after the configured
+ * time to live.
+ */
+public class ApplicationUuidCache extends AbstractNotificationCache<String, ApplicationUuidCache.ApplicationUuid> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    private static final String CACHE_NAME = "NotificationApplicationUuidCache";
+    private static final ApplicationUuidCache instance = new ApplicationUuidCache();
+
+    private ApplicationUuidCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static ApplicationUuidCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached resource ID of the given application.
+     *
+     * @param tenantId        Tenant ID of the application.
+     * @param applicationName Application name.
+     * @return Cached application UUID, or null if it is not cached. The UUID of the returned value is null if the
+     * application was not found.
+     */
+    public ApplicationUuid getApplicationUuid(int tenantId, String applicationName) {
+
+        return getValue(applicationName, tenantId);
+    }
+
+    /**
+     * Add the resource ID of the given application to the cache.
+     *
+     * @param tenantId        Tenant ID of the application.
+     * @param applicationName Application name.
+     * @param applicationUuid Application resource ID, or null if the application was not found.
+     * @return Cached application UUID.
+     */
+    public ApplicationUuid addApplicationUuid(int tenantId, String applicationName, String applicationUuid) {
+
+        ApplicationUuid value = new ApplicationUuid(applicationUuid);
+        addValue(applicationName, value, tenantId);
+        return value;
+    }
+
+    /**
+     * Remove the cached resource ID of the given application.
+     *
+     * @param tenantId        Tenant ID of the application.
+     * @param applicationName Application name.
+     */
+    public void invalidate(int tenantId, String applicationName) {
+
+        removeValue(applicationName, tenantId);
+    }
+
+    /**
+     * Remove the cached entries of all the applications of the given tenant.
+     *
+     * @param tenantId Tenant ID of the applications.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    /**
+     * Resource ID of an application, which is null if the application was not found.
+     */
+    public static final class ApplicationUuid implements Serializable {
+
+        private static final long serialVersionUID = 7712893580436281765L;
+
+        private final String uuid;
+
+        private ApplicationUuid(String uuid) {
+
+            this.uuid = uuid;
+        }
+
+        public String getUuid() {
+
+            return uuid;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache of the branding preference snapshots of tenants and applications, which keeps the placeholder values
+ * projected from the branding preferences. A cached snapshot is used without resolving the branding preferences
+ * again, hence a branding preference change is reflected once the snapshot expires or is invalidated. Entries are
+ * added in the scope of the tenant and are removed when the tenant is deleted.
+ */
+public class BrandingPreferenceCache
+        extends AbstractNotificationCache<BrandingPreferenceCache.CacheKey, BrandingPreferenceSnapshot> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    private static final String CACHE_NAME = "NotificationBrandingPreferenceCache";
+    private static final BrandingPreferenceCache instance = new BrandingPreferenceCache();
+
+    private BrandingPreferenceCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static BrandingPreferenceCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached branding preference snapshot of the given tenant or application.
+     *
+     * @param tenantId        Tenant ID.
+     * @param applicationUuid Application UUID, or null for organization level branding.
+     * @return Branding preference snapshot, or null if a snapshot is not cached.
+     */
+    public BrandingPreferenceSnapshot getSnapshot(int tenantId, String applicationUuid) {
+
+        return getValue(new CacheKey(applicationUuid), tenantId);
+    }
+
+    /**
+     * Create a branding preference snapshot with the given preferences and add it to the cache.
+     *
+     * @param tenantId        Tenant ID.
+     * @param applicationUuid Application UUID, or null for organization level branding.
+     * @param preferences     Parsed branding preferences, or null if branding is not configured or not enabled.
+     * @return Created branding preference snapshot.
+     */
+    public BrandingPreferenceSnapshot addSnapshot(int tenantId, String applicationUuid, JsonNode preferences) {
+
+        BrandingPreferenceSnapshot snapshot = new BrandingPreferenceSnapshot(preferences);
+        addValue(new CacheKey(applicationUuid), snapshot, tenantId);
+        return snapshot;
+    }
+
+    /**
+     * Remove the cached branding preferences of the given tenant and its applications.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    /**
+     * Remove the cached branding preferences of the given tenant or application.
+     *
+     * @param tenantId        Tenant ID.
+     * @param applicationUuid Application UUID, or null for organization level branding.
+     */
+    public void invalidate(int tenantId, String applicationUuid) {
+
+        removeValue(new CacheKey(applicationUuid), tenantId);
+    }
+
+    /**
+     * Cache key built from the application UUID, which is empty for organization level branding.
+     */
+    static final class CacheKey implements Serializable {
+
+        private static final long serialVersionUID = 2647219637598862310L;
+
+        private final String applicationUuid;
+
+        private CacheKey(String applicationUuid) {
+
+            this.applicationUuid = StringUtils.isBlank(applicationUuid) ? StringUtils.EMPTY : applicationUuid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            return Objects.equals(applicationUuid, ((CacheKey) o).applicationUuid);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hashCode(applicationUuid);
+        }
+    }
+}
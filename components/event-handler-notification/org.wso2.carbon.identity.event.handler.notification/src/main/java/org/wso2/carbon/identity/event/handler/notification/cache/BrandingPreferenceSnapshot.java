@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplateCache;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of the resolved branding preference of a tenant or an application. A snapshot without
+ * preferences represents a tenant or an application which has no enabled branding preference. The version of a
+ * snapshot is the content hash of its preferences, which is the same on every node of a cluster and changes only when
+ * the preferences change, hence values derived from a snapshot can be cached against its version.
+ * <p>
+ * The values of the branding placeholders projected from the snapshot are kept with the snapshot, so that resolving a
+ * branding placeholder is a single map lookup for as long as the snapshot is cached. The snapshot is serialized with
+ * the preferences in the JSON form, and the parsed preferences and the projected values are built again on the node
+ * which reads the snapshot. The copyright texts resolved from the custom texts of the organization are kept with
+ * the snapshot in the same way, per locale.
+ */
+public class BrandingPreferenceSnapshot implements Serializable {
+
+    private static final long serialVersionUID = -3180543245376104236L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String preferencesJson;
+    private final String version;
+    private transient volatile JsonNode preferences;
+    private transient volatile BrandingPlaceholderValues placeholderValues;
+    private transient volatile Map<String, String> copyrightTexts;
+
+    public BrandingPreferenceSnapshot(JsonNode preferences) {
+
+        this.preferences = preferences;
+        this.preferencesJson = preferences == null ? null : preferences.toString();
+        this.version = preferencesJson == null ? "" : CompiledTemplateCache.getContentHash(preferencesJson);
+    }
+
+    /**
+     * Get the parsed branding preferences. The returned node is shared and must not be modified.
+     *
+     * @return Branding preferences, or null if branding is not configured or not enabled.
+     */
+    public JsonNode getPreferences() {
+
+        JsonNode parsedPreferences = preferences;
+        if (parsedPreferences == null && preferencesJson != null) {
+            try {
+                parsedPreferences = OBJECT_MAPPER.readTree(preferencesJson);
+            } catch (IOException e) {
+                throw NotificationRuntimeException.error("Error while parsing the cached branding preferences.", e);
+            }
+            preferences = parsedPreferences;
+        }
+        return parsedPreferences;
+    }
+
+    public boolean isBrandingEnabled() {
+
+        return preferencesJson != null;
+    }
+
+    public String getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Get the branding placeholder values projected from this snapshot with the given branding fallbacks.
+     *
+     * @param brandingFallbacks Branding fallbacks used for the values not available in the preferences.
+     * @param year              Current year, which is used in the default copyright text.
+     * @return Unmodifiable map of the branding placeholder values, or null if the values are not projected with the
+     * given fallbacks in the given year.
+     */
+    public Map<String, String> getPlaceholderValues(Map<String, String> brandingFallbacks, int year) {
+
+        BrandingPlaceholderValues values = placeholderValues;
+        if (values == null || values.year != year || !Objects.equals(values.brandingFallbacks, brandingFallbacks)) {
+            return null;
+        }
+        return values.values;
+    }
+
+    /**
+     * Keep the branding placeholder values projected from this snapshot with the given branding fallbacks.
+     *
+     * @param brandingFallbacks Branding fallbacks used for the values not available in the preferences.
+     * @param year              Year used in the default copyright text.
+     * @param values            Branding placeholder values.
+     * @return Unmodifiable map of the given branding placeholder values.
+     */
+    public Map<String, String> setPlaceholderValues(Map<String, String> brandingFallbacks, int year,
+                                                    Map<String, String> values) {
+
+        BrandingPlaceholderValues placeholderValues = new BrandingPlaceholderValues(brandingFallbacks, year, values);
+        this.placeholderValues = placeholderValues;
+        return placeholderValues.values;
+    }
+
+    /**
+     * Get the copyright text resolved from the custom texts of the given locale.
+     *
+     * @param locale Locale of the custom texts.
+     * @return Copyright text, which is empty if it is not configured, or null if it is not resolved.
+     */
+    public String getCopyrightText(String locale) {
+
+        Map<String, String> texts = copyrightTexts;
+        return texts == null ? null : texts.get(StringUtils.defaultString(locale));
+    }
+
+    /**
+     * Keep the copyright text resolved from the custom texts of the given locale.
+     *
+     * @param locale        Locale of the custom texts.
+     * @param copyrightText Copyright text, which is empty if it is not configured.
+     */
+    public void setCopyrightText(String locale, String copyrightText) {
+
+        Map<String, String> texts = copyrightTexts;
+        if (texts == null) {
+            synchronized (this) {
+                texts = copyrightTexts;
+                if (texts == null) {
+                    texts = new ConcurrentHashMap<>();
+                    copyrightTexts = texts;
+                }
+            }
+        }
+        texts.put(StringUtils.defaultString(locale), StringUtils.defaultString(copyrightText));
+    }
+
+    /**
+     * Branding placeholder values together with the inputs they were projected with.
+     */
+    private static final class BrandingPlaceholderValues {
+
+        private final Map<String, String> brandingFallbacks;
+        private final int year;
+        private final Map<String, String> values;
+
+        private BrandingPlaceholderValues(Map<String, String> brandingFallbacks, int year, Map<String, String> values) {
+
+            this.brandingFallbacks = brandingFallbacks;
+            this.year = year;
+            this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        }
+    }
+}
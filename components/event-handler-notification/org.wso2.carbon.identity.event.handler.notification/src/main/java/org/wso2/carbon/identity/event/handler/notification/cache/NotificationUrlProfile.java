@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import java.io.Serializable;
+
+/**
+ * Immutable set of the server and endpoint URLs which are added to the notifications of a tenant.
+ */
+public class NotificationUrlProfile implements Serializable {
+
+    private static final long serialVersionUID = 5503925781148224307L;
+
+    private final String serverUrl;
+    private final String carbonUrlWithUserTenant;
+    private final String accountRecoveryEndpointUrl;
+    private final String authenticationEndpointUrl;
+
+    public NotificationUrlProfile(String serverUrl, String carbonUrlWithUserTenant, String accountRecoveryEndpointUrl,
+                                  String authenticationEndpointUrl) {
+
+        this.serverUrl = serverUrl;
+        this.carbonUrlWithUserTenant = carbonUrlWithUserTenant;
+        this.accountRecoveryEndpointUrl = accountRecoveryEndpointUrl;
+        this.authenticationEndpointUrl = authenticationEndpointUrl;
+    }
+
+    /**
+     * Get the absolute public URL of the server.
+     *
+     * @return Server URL.
+     */
+    public String getServerUrl() {
+
+        return serverUrl;
+    }
+
+    /**
+     * Get the absolute public URL of the server, qualified with the tenant of the user when required.
+     *
+     * @return Server URL with the tenant of the user.
+     */
+    public String getCarbonUrlWithUserTenant() {
+
+        return carbonUrlWithUserTenant;
+    }
+
+    public String getAccountRecoveryEndpointUrl() {
+
+        return accountRecoveryEndpointUrl;
+    }
+
+    public String getAuthenticationEndpointUrl() {
+
+        return authenticationEndpointUrl;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Cache of the {@link NotificationUrlProfile} of tenants. Entries are added in the scope of the tenant of the user
+ * who receives the notification. Since the server URLs are built for the tenant of the carbon context, entries are
+ * keyed by the tenant domain of the carbon context. The entries of a tenant are removed when the tenant is updated,
+ * and entries expire after the configured time to live.
+ */
+public class NotificationUrlProfileCache extends AbstractNotificationCache<String, NotificationUrlProfile> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    private static final String CACHE_NAME = "NotificationUrlProfileCache";
+    private static final NotificationUrlProfileCache instance = new NotificationUrlProfileCache();
+
+    private NotificationUrlProfileCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static NotificationUrlProfileCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached URL profile.
+     *
+     * @param contextTenantDomain Tenant domain of the carbon context.
+     * @param userTenantId        Tenant ID of the user.
+     * @return URL profile, or null if it is not cached.
+     */
+    public NotificationUrlProfile getUrlProfile(String contextTenantDomain, int userTenantId) {
+
+        return getValue(StringUtils.defaultString(contextTenantDomain), userTenantId);
+    }
+
+    /**
+     * Add the given URL profile to the cache.
+     *
+     * @param contextTenantDomain Tenant domain of the carbon context.
+     * @param userTenantId        Tenant ID of the user.
+     * @param urlProfile          URL profile.
+     */
+    public void addUrlProfile(String contextTenantDomain, int userTenantId, NotificationUrlProfile urlProfile) {
+
+        addValue(StringUtils.defaultString(contextTenantDomain), urlProfile, userTenantId);
+    }
+
+    /**
+     * Remove the cached URL profiles built for the users of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+/**
+ * Cache of the organization IDs of tenants. The organization of a tenant does not change during the lifetime of the
+ * tenant, hence entries are only removed when the tenant is deleted or when they expire after the configured time to
+ * live. Entries are added in the scope of the tenant and keyed by the tenant domain.
+ */
+public class OrganizationIdCache extends AbstractNotificationCache<String, String> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 3600;
+
+    private static final String CACHE_NAME = "NotificationOrganizationIdCache";
+
+    public OrganizationIdCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    /**
+     * Get the cached organization ID of the given tenant.
+     *
+     * @param tenantId     Tenant ID.
+     * @param tenantDomain Tenant domain.
+     * @return Organization ID, or null if it is not cached.
+     */
+    public String getOrganizationId(int tenantId, String tenantDomain) {
+
+        return getValue(tenantDomain, tenantId);
+    }
+
+    /**
+     * Add the organization ID of the given tenant to the cache.
+     *
+     * @param tenantId       Tenant ID.
+     * @param tenantDomain   Tenant domain.
+     * @param organizationId Organization ID.
+     */
+    public void addOrganizationId(int tenantId, String tenantDomain, String organizationId) {
+
+        addValue(tenantDomain, organizationId, tenantId);
+    }
+
+    /**
+     * Remove the cached organization ID of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import java.io.Serializable;
+
+/**
+ * Cache of the human-readable organization names of tenants. Tenants which do not represent an organization are
+ * cached with the tenant domain as the name, so that they are not looked up for every notification either. Entries
+ * are added in the scope of the tenant and keyed by the tenant domain. The entry of a tenant is removed when the
+ * associated organization is updated or deleted, and entries expire after the configured time to live.
+ */
+public class OrganizationNameCache extends AbstractNotificationCache<String, OrganizationNameCache.OrganizationName> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    private static final String CACHE_NAME = "NotificationOrganizationNameCache";
+    private static final OrganizationNameCache instance = new OrganizationNameCache();
+
+    private OrganizationNameCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static OrganizationNameCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached organization name of the given tenant.
+     *
+     * @param tenantId     Tenant ID.
+     * @param tenantDomain Tenant domain.
+     * @return Organization name, or null if it is not cached.
+     */
+    public OrganizationName getOrganizationName(int tenantId, String tenantDomain) {
+
+        return getValue(tenantDomain, tenantId);
+    }
+
+    /**
+     * Add the organization name of the given tenant to the cache.
+     *
+     * @param tenantId         Tenant ID.
+     * @param tenantDomain     Tenant domain.
+     * @param organizationId   ID of the organization associated with the tenant, or null if there is none.
+     * @param organizationName Human-readable name of the organization.
+     */
+    public void addOrganizationName(int tenantId, String tenantDomain, String organizationId,
+                                    String organizationName) {
+
+        addValue(tenantDomain, new OrganizationName(organizationId, organizationName), tenantId);
+    }
+
+    /**
+     * Remove the cached organization name of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    /**
+     * Organization name of a tenant together with the ID of the associated organization.
+     */
+    public static final class OrganizationName implements Serializable {
+
+        private static final long serialVersionUID = -1893626178003421569L;
+
+        private final String organizationId;
+        private final String name;
+
+        private OrganizationName(String organizationId, String name) {
+
+            this.organizationId = organizationId;
+            this.name = name;
+        }
+
+        public String getOrganizationId() {
+
+            return organizationId;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Node local cache of the event fields mapped by the event publishers of a stream, per tenant and stream. A cached
+ * entry is used without listing the active publisher configurations until its time to live passes. An expired entry
+ * is checked against the active publisher configurations it was resolved from: the event publisher service keeps a
+ * configuration instance per deployed publisher and replaces it when a publisher is deployed again, hence the entry
+ * is renewed while the active configurations are the same instances, and is resolved again once a publisher of the
+ * tenant is deployed or undeployed. Since the entries refer to the configurations of this node, they are not shared
+ * with the other nodes of the cluster.
+ */
+public class PublisherMappedFieldsCache {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+
+    private static final Log log = LogFactory.getLog(PublisherMappedFieldsCache.class);
+    private static final PublisherMappedFieldsCache instance = new PublisherMappedFieldsCache();
+
+    private final Map<Integer, Map<String, PublisherMappedFields>> tenantMappedFields = new ConcurrentHashMap<>();
+    private volatile long timeToLiveMillis = TimeUnit.SECONDS.toMillis(DEFAULT_TIME_TO_LIVE_SECONDS);
+
+    private PublisherMappedFieldsCache() {
+
+    }
+
+    public static PublisherMappedFieldsCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the fields mapped by the event publishers of the given stream. The active publisher configurations are
+     * listed only if the fields are not cached or the cached fields are expired, and the fields are resolved with the
+     * given resolver only if the active publisher configurations have changed.
+     *
+     * @param tenantId                      Tenant ID.
+     * @param streamId                      Stream id in the format of name:version.
+     * @param activePublisherConfigurations Lists the active event publisher configurations of the tenant, or returns
+     *                                      null if they can not be listed.
+     * @param resolver                      Resolves the mapped fields from the active publisher configurations.
+     * @return Mapped fields, or null if the fields used by a publisher of the stream can not be determined.
+     */
+    public Set<String> getMappedFields(int tenantId, String streamId,
+                                       Supplier<List<EventPublisherConfiguration>> activePublisherConfigurations,
+                                       Function<List<EventPublisherConfiguration>, Set<String>> resolver) {
+
+        Map<String, PublisherMappedFields> streamMappedFields =
+                tenantMappedFields.computeIfAbsent(tenantId, key -> new ConcurrentHashMap<>());
+        PublisherMappedFields mappedFields = streamMappedFields.get(streamId);
+        long currentTime = System.currentTimeMillis();
+        if (mappedFields != null && currentTime < mappedFields.expiryTime) {
+            return mappedFields.fields;
+        }
+        List<EventPublisherConfiguration> publisherConfigurations = activePublisherConfigurations.get();
+        if (publisherConfigurations == null) {
+            return null;
+        }
+        long expiryTime = currentTime + timeToLiveMillis;
+        if (mappedFields != null && mappedFields.isResolvedFrom(publisherConfigurations)) {
+            mappedFields.expiryTime = expiryTime;
+            return mappedFields.fields;
+        }
+        mappedFields = new PublisherMappedFields(publisherConfigurations, resolver.apply(publisherConfigurations),
+                expiryTime);
+        streamMappedFields.put(streamId, mappedFields);
+        return mappedFields.fields;
+    }
+
+    /**
+     * Remove the mapped fields of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        tenantMappedFields.remove(tenantId);
+    }
+
+    public void clear() {
+
+        tenantMappedFields.clear();
+    }
+
+    /**
+     * Set the time to live of the cache entries, which bounds the time a publisher deployment takes to be reflected.
+     *
+     * @param timeToLiveSeconds Time to live in seconds. Non positive values are ignored.
+     */
+    public void setTimeToLive(long timeToLiveSeconds) {
+
+        if (timeToLiveSeconds <= 0) {
+            log.warn("Invalid publisher mapped fields cache time to live: " + timeToLiveSeconds +
+                    ". Using the time to live: " + getTimeToLive() + " seconds.");
+            return;
+        }
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+    }
+
+    public long getTimeToLive() {
+
+        return TimeUnit.MILLISECONDS.toSeconds(timeToLiveMillis);
+    }
+
+    /**
+     * Mapped fields together with the publisher configurations they were resolved from.
+     */
+    private static final class PublisherMappedFields {
+
+        private final List<EventPublisherConfiguration> publisherConfigurations;
+        private final Set<String> fields;
+        private volatile long expiryTime;
+
+        private PublisherMappedFields(List<EventPublisherConfiguration> publisherConfigurations, Set<String> fields,
+                                      long expiryTime) {
+
+            this.publisherConfigurations = new ArrayList<>(publisherConfigurations);
+            this.fields = fields == null ? null : Collections.unmodifiableSet(new HashSet<>(fields));
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isResolvedFrom(List<EventPublisherConfiguration> activePublisherConfigurations) {
+
+            if (publisherConfigurations.size() != activePublisherConfigurations.size()) {
+                return false;
+            }
+            for (int i = 0; i < publisherConfigurations.size(); i++) {
+                if (publisherConfigurations.get(i) != activePublisherConfigurations.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
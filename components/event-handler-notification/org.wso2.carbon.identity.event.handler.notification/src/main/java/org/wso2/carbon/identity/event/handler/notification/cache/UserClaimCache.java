@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the user claim values retrieved from the user stores for notifications. Flows such as OTP resend and
+ * account recovery send a few notifications for the same user within seconds, hence entries are kept only for a
+ * short time. Entries are added in the scope of the tenant of the user and keyed by the user store domain and the
+ * username, and an entry serves the requests of the claim URIs it was retrieved for. The entry of a user is removed
+ * when the claims of the user are changed.
+ */
+public class UserClaimCache extends AbstractNotificationCache<UserClaimCache.UserClaimKey,
+        UserClaimCache.UserClaims> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 10;
+
+    private static final String CACHE_NAME = "NotificationUserClaimCache";
+    private static final UserClaimCache instance = new UserClaimCache();
+
+    private final AtomicLong totalHitAge = new AtomicLong();
+    private final AtomicLong maxHitAge = new AtomicLong();
+
+    private UserClaimCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static UserClaimCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached claim values of the given user.
+     *
+     * @param tenantId        Tenant ID of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param userName        Username.
+     * @param claimURIs       Requested claim URIs, or null if all the claims of the user are requested.
+     * @return Modifiable copy of the cached values of the requested claims, or null if they are not cached.
+     */
+    public Map<String, String> getClaimValues(int tenantId, String userStoreDomain, String userName,
+                                              String[] claimURIs) {
+
+        UserClaims userClaims = getValue(new UserClaimKey(userStoreDomain, userName), tenantId);
+        if (userClaims == null || !userClaims.covers(claimURIs)) {
+            return null;
+        }
+        long age = System.currentTimeMillis() - userClaims.cachedTime;
+        totalHitAge.addAndGet(age);
+        maxHitAge.accumulateAndGet(age, Math::max);
+        return userClaims.getClaimValues(claimURIs);
+    }
+
+    /**
+     * Add the claim values of the given user to the cache. The cached claim values of the user are replaced.
+     *
+     * @param tenantId        Tenant ID of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param userName        Username.
+     * @param claimURIs       Requested claim URIs, or null if all the claims of the user are requested.
+     * @param claimValues     Claim values retrieved from the user store.
+     */
+    public void addClaimValues(int tenantId, String userStoreDomain, String userName, String[] claimURIs,
+                               Map<String, String> claimValues) {
+
+        addValue(new UserClaimKey(userStoreDomain, userName), new UserClaims(claimURIs, claimValues), tenantId);
+    }
+
+    /**
+     * Remove the cached claim values of the given user.
+     *
+     * @param tenantId        Tenant ID of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param userName        Username.
+     */
+    public void invalidate(int tenantId, String userStoreDomain, String userName) {
+
+        removeValue(new UserClaimKey(userStoreDomain, userName), tenantId);
+    }
+
+    /**
+     * Remove the cached claim values of all the users of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    /**
+     * Get the average age of the cached claim values returned by the cache, which shows how stale the claim values
+     * used for notifications can be.
+     *
+     * @return Average age in milliseconds, or 0 if no value is returned yet.
+     */
+    public long getAverageHitAge() {
+
+        long hits = getHitCount();
+        return hits == 0 ? 0 : totalHitAge.get() / hits;
+    }
+
+    /**
+     * Get the maximum age of the cached claim values returned by the cache.
+     *
+     * @return Maximum age in milliseconds.
+     */
+    public long getMaxHitAge() {
+
+        return maxHitAge.get();
+    }
+
+    /**
+     * Claim values of a user together with the claim URIs they were retrieved for and the time they were retrieved
+     * from the user store.
+     */
+    static final class UserClaims implements Serializable {
+
+        private static final long serialVersionUID = -6420718395870237365L;
+
+        private final HashSet<String> claimURIs;
+        private final HashMap<String, String> claimValues;
+        private final long cachedTime;
+
+        private UserClaims(String[] claimURIs, Map<String, String> claimValues) {
+
+            this.claimURIs = claimURIs == null ? null : new HashSet<>(Arrays.asList(claimURIs));
+            this.claimValues = new HashMap<>(claimValues);
+            this.cachedTime = System.currentTimeMillis();
+        }
+
+        private boolean covers(String[] requestedClaimURIs) {
+
+            if (claimURIs == null) {
+                return true;
+            }
+            return requestedClaimURIs != null && claimURIs.containsAll(Arrays.asList(requestedClaimURIs));
+        }
+
+        private Map<String, String> getClaimValues(String[] requestedClaimURIs) {
+
+            if (requestedClaimURIs == null) {
+                return new HashMap<>(claimValues);
+            }
+            Map<String, String> requestedClaimValues = new HashMap<>();
+            for (String claimURI : requestedClaimURIs) {
+                String value = claimValues.get(claimURI);
+                if (value != null) {
+                    requestedClaimValues.put(claimURI, value);
+                }
+            }
+            return requestedClaimValues;
+        }
+    }
+
+    /**
+     * Cache key built from the user store domain and the username.
+     */
+    static final class UserClaimKey implements Serializable {
+
+        private static final long serialVersionUID = 8839208474214616203L;
+
+        private final String userStoreDomain;
+        private final String userName;
+
+        private UserClaimKey(String userStoreDomain, String userName) {
+
+            this.userStoreDomain = StringUtils.upperCase(userStoreDomain, Locale.ENGLISH);
+            this.userName = userName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UserClaimKey)) {
+                return false;
+            }
+            UserClaimKey that = (UserClaimKey) o;
+            return Objects.equals(userStoreDomain, that.userStoreDomain) && Objects.equals(userName, that.userName);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(userStoreDomain, userName);
+        }
+    }
+}
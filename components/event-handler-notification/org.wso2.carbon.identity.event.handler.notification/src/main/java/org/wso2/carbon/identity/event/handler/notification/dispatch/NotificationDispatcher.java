@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches notification events to a bounded queue drained by a pool of worker threads, so that building and
+ * publishing notifications does not add to the response time of the request which triggered the event. When the
+ * queue is full, the configured {@link OverflowPolicy} is applied.
+ * <p>
+ * An error raised while processing a queued notification can not be thrown to the caller, since the caller has
+ * already returned. Such errors are logged and counted against the event name, see {@link #getFailedCounts()}. Only
+ * the notifications processed in the caller thread by the {@link OverflowPolicy#CALLER_RUNS} policy, and the
+ * notifications rejected by the {@link OverflowPolicy#REJECT} policy, surface an {@link IdentityEventException}.
+ * <p>
+ * The capacity of the queue is tracked with a semaphore of queue permits. A permit is taken before a notification is
+ * handed to the executor and is released once the notification is processed, hence a notification waiting for space
+ * in a full queue never bypasses the executor.
+ * <p>
+ * When created with {@link #withVirtualThreads(int, int, int, OverflowPolicy)}, each notification is processed on
+ * its own virtual thread instead of a fixed pool. The number of notifications processed concurrently for a tenant is
+ * then limited by a per tenant semaphore, and the notifications waiting for a permit make up the queue. The semaphore
+ * of a tenant is removed once no notification of the tenant is waiting or in progress.
+ */
+public class NotificationDispatcher {
+
+    public static final int DEFAULT_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_WORKER_COUNT = 10;
+    public static final int DEFAULT_TENANT_CONCURRENCY = 100;
+
+    private static final Log log = LogFactory.getLog(NotificationDispatcher.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String THREAD_NAME_PREFIX = "NotificationDispatcher-";
+
+    private final ExecutorService executor;
+    private final OverflowPolicy overflowPolicy;
+    private final Semaphore queuePermits;
+    private final boolean virtualThreadsEnabled;
+    private final int tenantConcurrency;
+    private final ConcurrentMap<String, TenantPermit> tenantPermits = new ConcurrentHashMap<>();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private volatile long maxWaitMillis;
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> failedCountsByEvent = new ConcurrentHashMap<>();
+
+    public NotificationDispatcher(int queueSize, int workerCount, OverflowPolicy overflowPolicy) {
+
+        // The queue of the executor is bounded by the queue permits, which also cover the notifications being
+        // processed by the workers.
+        this(new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new WorkerThreadFactory()), new Semaphore(queueSize + workerCount), false, 0, overflowPolicy);
+    }
+
+    private NotificationDispatcher(ExecutorService executor, Semaphore queuePermits, boolean virtualThreadsEnabled,
+                                   int tenantConcurrency, OverflowPolicy overflowPolicy) {
+
+        this.executor = executor;
+        this.queuePermits = queuePermits;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.tenantConcurrency = tenantConcurrency;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Create a dispatcher which processes each notification on a new virtual thread. If the runtime does not support
+     * virtual threads, a dispatcher with a pool of platform worker threads is returned.
+     *
+     * @param queueSize         Maximum number of notifications waiting to be processed.
+     * @param workerCount       Number of platform worker threads used if virtual threads are not supported.
+     * @param tenantConcurrency Maximum number of notifications of a tenant processed concurrently.
+     * @param overflowPolicy    Policy applied when the queue is full.
+     * @return Notification dispatcher.
+     */
+    public static NotificationDispatcher withVirtualThreads(int queueSize, int workerCount, int tenantConcurrency,
+                                                            OverflowPolicy overflowPolicy) {
+
+        ExecutorService virtualThreadExecutor = VirtualThreadExecutors.newExecutor(THREAD_NAME_PREFIX + "virtual-");
+        if (virtualThreadExecutor == null) {
+            log.warn("Virtual threads are not supported by the runtime. Using " + workerCount +
+                    " platform worker threads to dispatch notifications.");
+            return new NotificationDispatcher(queueSize, workerCount, overflowPolicy);
+        }
+        return new NotificationDispatcher(virtualThreadExecutor, new Semaphore(queueSize), true, tenantConcurrency,
+                overflowPolicy);
+    }
+
+    /**
+     * Dispatch the given notification event for asynchronous processing.
+     *
+     * @param snapshot  Snapshot of the notification event.
+     * @param processor Processor of the notification event.
+     * @throws IdentityEventException If the queue is full and the overflow policy rejects the event, or if the
+     *                                event is processed in the caller thread and the processing fails.
+     */
+    public void dispatch(NotificationEventSnapshot snapshot, NotificationEventProcessor processor)
+            throws IdentityEventException {
+
+        if (!acquireQueuePermit()) {
+            handleOverflow(snapshot, processor);
+            return;
+        }
+        try {
+            executor.execute(() -> processQueued(snapshot, processor));
+            dispatchedCount.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            queuePermits.release();
+            handleOverflow(snapshot, processor);
+        }
+    }
+
+    /**
+     * Stop accepting notifications and wait for the queued notifications to be processed.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                int droppedCount = executor.shutdownNow().size();
+                log.warn("Notification dispatcher did not stop within " + SHUTDOWN_TIMEOUT_SECONDS +
+                        " seconds. Dropped " + droppedCount + " queued notifications.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Set the time a notification waits for a queue permit of a full queue before the overflow policy is applied.
+     * By default, the overflow policy is applied right away.
+     *
+     * @param maxWaitMillis Maximum wait in milliseconds.
+     */
+    public void setMaxWait(long maxWaitMillis) {
+
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getMaxWait() {
+
+        return maxWaitMillis;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    /**
+     * Check whether the notifications are processed on virtual threads.
+     *
+     * @return True if each notification is processed on a new virtual thread.
+     */
+    public boolean isVirtualThreadsEnabled() {
+
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Get the number of notifications waiting in the queue.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        return waitingCount.get();
+    }
+
+    /**
+     * Get the number of notifications of the given tenant being processed on virtual threads.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of notifications in progress, or 0 if virtual threads are not used.
+     */
+    public int getInProgressCount(String tenantDomain) {
+
+        TenantPermit tenantPermit = tenantPermits.get(getTenantKey(tenantDomain));
+        return tenantPermit == null ? 0 : tenantConcurrency - tenantPermit.semaphore.availablePermits();
+    }
+
+    /**
+     * Get the number of tenants having notifications waiting or in progress on virtual threads.
+     *
+     * @return Number of tenants.
+     */
+    public int getActiveTenantCount() {
+
+        return tenantPermits.size();
+    }
+
+    public long getDispatchedCount() {
+
+        return dispatchedCount.get();
+    }
+
+    /**
+     * Get the number of notifications which could not be queued since the queue was full.
+     *
+     * @return Overflow count.
+     */
+    public long getOverflowCount() {
+
+        return overflowCount.get();
+    }
+
+    /**
+     * Get the number of queued notifications which failed while being processed. These failures are not reported to
+     * the caller which triggered the event.
+     *
+     * @return Failed count.
+     */
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of queued notifications of the given event which failed while being processed.
+     *
+     * @param eventName Event name.
+     * @return Failed count of the event.
+     */
+    public long getFailedCount(String eventName) {
+
+        AtomicLong eventFailedCount = failedCountsByEvent.get(getEventKey(eventName));
+        return eventFailedCount == null ? 0 : eventFailedCount.get();
+    }
+
+    /**
+     * Get the number of queued notifications which failed while being processed, against the event names.
+     *
+     * @return Unmodifiable map of the failed counts against the event names.
+     */
+    public Map<String, Long> getFailedCounts() {
+
+        Map<String, Long> failedCounts = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : failedCountsByEvent.entrySet()) {
+            failedCounts.put(entry.getKey(), entry.getValue().get());
+        }
+        return Collections.unmodifiableMap(failedCounts);
+    }
+
+    private void process(NotificationEventSnapshot snapshot, NotificationEventProcessor processor) {
+
+        try {
+            snapshot.process(processor);
+        } catch (IdentityEventException | RuntimeException e) {
+            recordFailure(snapshot);
+            log.error("Error while processing the notification event: " + snapshot.getEventName() +
+                    " of tenant: " + snapshot.getTenantDomain(), e);
+        }
+    }
+
+    private void processQueued(NotificationEventSnapshot snapshot, NotificationEventProcessor processor) {
+
+        try {
+            if (virtualThreadsEnabled) {
+                processWithTenantPermit(snapshot, processor);
+            } else {
+                process(snapshot, processor);
+            }
+        } finally {
+            queuePermits.release();
+        }
+    }
+
+    private boolean acquireQueuePermit() {
+
+        if (queuePermits.tryAcquire()) {
+            return true;
+        }
+        if (maxWaitMillis <= 0 || executor.isShutdown()) {
+            return false;
+        }
+        try {
+            return queuePermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void processWithTenantPermit(NotificationEventSnapshot snapshot, NotificationEventProcessor processor) {
+
+        String tenantKey = getTenantKey(snapshot.getTenantDomain());
+        TenantPermit tenantPermit = tenantPermits.compute(tenantKey, (key, permit) -> {
+            TenantPermit referencedPermit = permit == null ? new TenantPermit(tenantConcurrency) : permit;
+            referencedPermit.references++;
+            return referencedPermit;
+        });
+        try {
+            waitingCount.incrementAndGet();
+            try {
+                tenantPermit.semaphore.acquire();
+            } finally {
+                waitingCount.decrementAndGet();
+            }
+            try {
+                process(snapshot, processor);
+            } finally {
+                tenantPermit.semaphore.release();
+            }
+        } catch (InterruptedException e) {
+            recordFailure(snapshot);
+            log.warn("Interrupted while waiting to process the notification event: " + snapshot.getEventName() +
+                    " of tenant: " + snapshot.getTenantDomain());
+            Thread.currentThread().interrupt();
+        } finally {
+            // Remove the permit of the tenant once it is not referenced, so that idle tenants are not retained.
+            tenantPermits.computeIfPresent(tenantKey, (key, permit) -> --permit.references == 0 ? null : permit);
+        }
+    }
+
+    private void recordFailure(NotificationEventSnapshot snapshot) {
+
+        failedCount.incrementAndGet();
+        failedCountsByEvent.computeIfAbsent(getEventKey(snapshot.getEventName()), eventKey -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    private static String getEventKey(String eventName) {
+
+        return eventName == null ? "" : eventName;
+    }
+
+    private static String getTenantKey(String tenantDomain) {
+
+        return tenantDomain == null ? "" : tenantDomain;
+    }
+
+    private void handleOverflow(NotificationEventSnapshot snapshot, NotificationEventProcessor processor)
+            throws IdentityEventException {
+
+        overflowCount.incrementAndGet();
+        if (executor.isShutdown()) {
+            throw new IdentityEventException("Notification dispatcher is shut down. Event: " +
+                    snapshot.getEventName() + " can not be processed.");
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                if (log.isDebugEnabled()) {
+                    log.debug("Notification queue is full. Processing the event: " + snapshot.getEventName() +
+                            " in the caller thread.");
+                }
+                processor.process(snapshot.toEvent());
+                break;
+            case DISCARD:
+                log.warn("Notification queue is full. Discarding the event: " + snapshot.getEventName() +
+                        " of tenant: " + snapshot.getTenantDomain());
+                break;
+            default:
+                throw new IdentityEventException("Notification queue is full. Event: " + snapshot.getEventName() +
+                        " of tenant: " + snapshot.getTenantDomain() + " is rejected.");
+        }
+    }
+
+    /**
+     * Semaphore limiting the notifications of a tenant processed concurrently, along with the number of notifications
+     * of the tenant referencing it. The references are only updated while the map entry of the tenant is locked.
+     */
+    private static final class TenantPermit {
+
+        private final Semaphore semaphore;
+        private int references;
+
+        private TenantPermit(int permits) {
+
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+
+    /**
+     * Creates the daemon worker threads of the dispatcher.
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a notification event and of the thread context needed to process it, taken in the thread
+ * which triggered the event so that the event can be processed in another thread. The event properties are copied,
+ * hence later changes to the event done by the caller or by other handlers do not affect the snapshot.
+ */
+public final class NotificationEventSnapshot {
+
+    private final String eventName;
+    private final Map<String, Object> eventProperties;
+    private final String tenantDomain;
+    private final int tenantId;
+    private final String username;
+    private final Object userIdentityClaims;
+
+    private NotificationEventSnapshot(Event event) {
+
+        this.eventName = event.getEventName();
+        this.eventProperties = Collections.unmodifiableMap(new HashMap<>(event.getEventProperties()));
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        this.tenantDomain = carbonContext.getTenantDomain();
+        this.tenantId = carbonContext.getTenantId();
+        this.username = carbonContext.getUsername();
+        this.userIdentityClaims =
+                IdentityUtil.threadLocalProperties.get().get(NotificationConstants.USER_IDENTITY_CLAIMS);
+    }
+
+    /**
+     * Take a snapshot of the given event in the current thread.
+     *
+     * @param event Notification event.
+     * @return Snapshot of the event.
+     */
+    public static NotificationEventSnapshot capture(Event event) {
+
+        return new NotificationEventSnapshot(event);
+    }
+
+    /**
+     * Create a new event from the snapshot. Each call returns a new event with a modifiable copy of the properties.
+     *
+     * @return Notification event.
+     */
+    public Event toEvent() {
+
+        return new Event(eventName, new HashMap<>(eventProperties));
+    }
+
+    /**
+     * Process the event of the snapshot in the current thread, with the tenant and the user identity claims of the
+     * thread which triggered the event.
+     *
+     * @param processor Notification event processor.
+     * @throws IdentityEventException Error while processing the event.
+     */
+    void process(NotificationEventProcessor processor) throws IdentityEventException {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(tenantDomain);
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setUsername(username);
+            if (userIdentityClaims != null) {
+                IdentityUtil.threadLocalProperties.get().put(NotificationConstants.USER_IDENTITY_CLAIMS,
+                        userIdentityClaims);
+            }
+            processor.process(toEvent());
+        } finally {
+            IdentityUtil.threadLocalProperties.get().remove(NotificationConstants.USER_IDENTITY_CLAIMS);
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    public String getEventName() {
+
+        return eventName;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the value of the given event property.
+     *
+     * @param key Property key.
+     * @return Property value, or null if the property is not available.
+     */
+    public Object getEventProperty(String key) {
+
+        return eventProperties.get(key);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Priority classes of the notification events. Each priority is dispatched through its own lane with a separate
+ * queue and workers, so that bulk notifications can not delay the critical ones, eg: login OTPs.
+ */
+public enum NotificationPriority {
+
+    /**
+     * Notifications the user is waiting for to continue a flow, eg: OTPs. Processed in the caller thread if they can
+     * not be queued within the maximum wait.
+     */
+    CRITICAL("Critical", 1000, 5, 100),
+
+    /**
+     * Notifications triggered by user actions which do not block a flow, eg: password reset confirmations.
+     */
+    INTERACTIVE("Interactive", 5000, 10, 0),
+
+    /**
+     * Notifications triggered in large numbers, eg: account disabled campaigns.
+     */
+    BULK("Bulk", 10000, 5, 0);
+
+    private final String configName;
+    private final int defaultQueueSize;
+    private final int defaultWorkerCount;
+    private final long defaultMaxWaitMillis;
+
+    NotificationPriority(String configName, int defaultQueueSize, int defaultWorkerCount, long defaultMaxWaitMillis) {
+
+        this.configName = configName;
+        this.defaultQueueSize = defaultQueueSize;
+        this.defaultWorkerCount = defaultWorkerCount;
+        this.defaultMaxWaitMillis = defaultMaxWaitMillis;
+    }
+
+    /**
+     * Get the name used for the priority in the configuration keys, eg: Critical.
+     *
+     * @return Configuration name of the priority.
+     */
+    public String getConfigName() {
+
+        return configName;
+    }
+
+    public int getDefaultQueueSize() {
+
+        return defaultQueueSize;
+    }
+
+    public int getDefaultWorkerCount() {
+
+        return defaultWorkerCount;
+    }
+
+    /**
+     * Get the default time a notification of the priority waits for space in a full queue before the overflow
+     * policy is applied.
+     *
+     * @return Maximum wait in milliseconds.
+     */
+    public long getDefaultMaxWaitMillis() {
+
+        return defaultMaxWaitMillis;
+    }
+
+    /**
+     * Get the priority of the given name.
+     *
+     * @param name            Name of the priority, case insensitive.
+     * @param defaultPriority Priority returned if the name is blank or unknown.
+     * @return Notification priority.
+     */
+    public static NotificationPriority fromName(String name, NotificationPriority defaultPriority) {
+
+        if (StringUtils.isBlank(name)) {
+            return defaultPriority;
+        }
+        for (NotificationPriority priority : values()) {
+            if (priority.name().equalsIgnoreCase(name.trim())) {
+                return priority;
+            }
+        }
+        return defaultPriority;
+    }
+}
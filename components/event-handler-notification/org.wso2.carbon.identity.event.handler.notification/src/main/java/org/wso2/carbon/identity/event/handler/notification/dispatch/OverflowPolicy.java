@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Policies applied when a notification can not be queued for asynchronous dispatch since the queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Process the notification synchronously in the thread which triggered the event.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Drop the notification and log a warning.
+     */
+    DISCARD,
+
+    /**
+     * Fail the event handling with an error.
+     */
+    REJECT;
+
+    /**
+     * Get the overflow policy of the given name.
+     *
+     * @param name          Name of the policy, case insensitive.
+     * @param defaultPolicy Policy returned if the name is blank or unknown.
+     * @return Overflow policy.
+     */
+    public static OverflowPolicy fromName(String name, OverflowPolicy defaultPolicy) {
+
+        if (StringUtils.isBlank(name)) {
+            return defaultPolicy;
+        }
+        for (OverflowPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name.trim())) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Dispatches notification events through a separate {@link NotificationDispatcher} per {@link NotificationPriority}.
+ * Since each lane has its own queue and workers, a saturated bulk lane does not delay the critical notifications, and
+ * a critical notification waits at most the maximum wait of its lane before it is processed in the caller thread.
+ */
+public class PriorityLaneDispatcher {
+
+    private final Map<NotificationPriority, NotificationDispatcher> lanes;
+
+    /**
+     * Create a priority lane dispatcher.
+     *
+     * @param lanes Dispatchers against the priorities. A dispatcher is required for each priority.
+     */
+    public PriorityLaneDispatcher(Map<NotificationPriority, NotificationDispatcher> lanes) {
+
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            if (lanes.get(priority) == null) {
+                throw new IllegalArgumentException("Notification dispatcher is not provided for the priority: " +
+                        priority);
+            }
+        }
+        this.lanes = Collections.unmodifiableMap(new EnumMap<>(lanes));
+    }
+
+    /**
+     * Dispatch the given notification event through the lane of the given priority.
+     *
+     * @param snapshot  Snapshot of the notification event.
+     * @param priority  Priority of the notification event.
+     * @param processor Processor of the notification event.
+     * @throws IdentityEventException If the lane rejects the event, or if the event is processed in the caller thread
+     *                                and the processing fails.
+     */
+    public void dispatch(NotificationEventSnapshot snapshot, NotificationPriority priority,
+                         NotificationEventProcessor processor) throws IdentityEventException {
+
+        lanes.get(priority).dispatch(snapshot, processor);
+    }
+
+    /**
+     * Get the dispatcher of the lane of the given priority, eg: to read the queue depth of the lane.
+     *
+     * @param priority Notification priority.
+     * @return Dispatcher of the lane.
+     */
+    public NotificationDispatcher getLane(NotificationPriority priority) {
+
+        return lanes.get(priority);
+    }
+
+    /**
+     * Stop the lanes and wait for the queued notifications to be processed.
+     */
+    public void shutdown() {
+
+        for (NotificationDispatcher lane : lanes.values()) {
+            lane.shutdown();
+        }
+    }
+}
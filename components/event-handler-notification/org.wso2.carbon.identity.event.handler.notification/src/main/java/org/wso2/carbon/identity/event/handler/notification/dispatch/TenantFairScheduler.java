@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Schedules the notification events of all the tenants on a shared pool of worker threads, so that a tenant which
+ * triggers a large number of notifications, eg: during a bulk user import, does not starve the other tenants.
+ * <p>
+ * Events are queued per tenant, keyed by the tenant-domain event property, and per {@link NotificationPriority}.
+ * Workers always pick a pending critical event first, then an interactive event and then a bulk event. Among the
+ * tenants with a pending event of a priority, workers pick using stride scheduling: every tenant has a pass value per
+ * priority which advances by 1/weight for each event it gets, and the runnable tenant with the lowest pass goes next.
+ * Hence tenants get the workers in proportion to their weights while they are busy, and a tenant never processes more
+ * events concurrently than its maximum concurrency. The runnable tenants of each priority are kept ordered by their
+ * pass, and the queues of a tenant are removed once it has no pending or in progress event, while its cumulative
+ * statistics are kept. When the queue of a tenant for a priority is full, the configured {@link OverflowPolicy} is
+ * applied.
+ */
+public class TenantFairScheduler {
+
+    public static final int DEFAULT_WORKER_COUNT = 10;
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private static final Log log = LogFactory.getLog(TenantFairScheduler.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final Comparator<TenantLane> PASS_ORDER = Comparator.comparingDouble((TenantLane lane) -> lane.pass)
+            .thenComparingLong(lane -> lane.tenantQueue.sequence);
+
+    private final int queueSize;
+    private final OverflowPolicy overflowPolicy;
+    private final TenantSchedulingConfig defaultConfig;
+    private final Map<String, TenantSchedulingConfig> tenantConfigs;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition eventAvailable = lock.newCondition();
+    // Guarded by the lock.
+    private final Map<String, TenantQueue> tenantQueues = new HashMap<>();
+    private final Map<String, TenantCounters> tenantCounters = new LinkedHashMap<>();
+    private final Map<NotificationPriority, NavigableSet<TenantLane>> runnableLanes =
+            new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationPriority, Double> virtualTimes = new EnumMap<>(NotificationPriority.class);
+    private long tenantSequence;
+    private int pendingCount;
+    private boolean shutdown;
+
+    /**
+     * Create a tenant fair scheduler and start its workers.
+     *
+     * @param workerCount    Number of worker threads shared by the tenants.
+     * @param queueSize      Maximum number of pending events of a tenant for each priority.
+     * @param overflowPolicy Policy applied when the queue of a tenant is full.
+     * @param defaultConfig  Share of the tenants which are not configured explicitly.
+     * @param tenantConfigs  Shares against the tenant domains.
+     */
+    public TenantFairScheduler(int workerCount, int queueSize, OverflowPolicy overflowPolicy,
+                               TenantSchedulingConfig defaultConfig,
+                               Map<String, TenantSchedulingConfig> tenantConfigs) {
+
+        this.queueSize = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.defaultConfig = defaultConfig;
+        this.tenantConfigs = Collections.unmodifiableMap(new HashMap<>(tenantConfigs));
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            runnableLanes.put(priority, new TreeSet<>(PASS_ORDER));
+            virtualTimes.put(priority, 0.0);
+        }
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "TenantFairScheduler-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queue the given notification event for processing in the turn of its tenant, with the interactive priority.
+     *
+     * @param snapshot  Snapshot of the notification event.
+     * @param processor Processor of the notification event.
+     * @throws IdentityEventException If the queue of the tenant is full and the overflow policy rejects the event, or
+     *                                if the event is processed in the caller thread and the processing fails.
+     */
+    public void schedule(NotificationEventSnapshot snapshot, NotificationEventProcessor processor)
+            throws IdentityEventException {
+
+        schedule(snapshot, NotificationPriority.INTERACTIVE, processor);
+    }
+
+    /**
+     * Queue the given notification event for processing in the turn of its tenant. Pending events of a higher priority
+     * are always processed before the events of a lower priority.
+     *
+     * @param snapshot  Snapshot of the notification event.
+     * @param priority  Priority of the notification event.
+     * @param processor Processor of the notification event.
+     * @throws IdentityEventException If the queue of the tenant is full and the overflow policy rejects the event, or
+     *                                if the event is processed in the caller thread and the processing fails.
+     */
+    public void schedule(NotificationEventSnapshot snapshot, NotificationPriority priority,
+                         NotificationEventProcessor processor) throws IdentityEventException {
+
+        String tenantDomain = getTenantDomain(snapshot);
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new IdentityEventException("Tenant fair scheduler is shut down. Event: " +
+                        snapshot.getEventName() + " can not be processed.");
+            }
+            TenantQueue tenantQueue = tenantQueues.computeIfAbsent(tenantDomain, this::createTenantQueue);
+            TenantLane tenantLane = tenantQueue.lanes.get(priority);
+            if (tenantLane.events.size() < queueSize) {
+                if (tenantLane.events.isEmpty()) {
+                    // An idle tenant resumes from the current virtual time, hence it can not claim the turns it
+                    // did not use while it was idle.
+                    tenantLane.pass = Math.max(tenantLane.pass, virtualTimes.get(priority));
+                    if (tenantQueue.hasFreeSlot()) {
+                        runnableLanes.get(priority).add(tenantLane);
+                    }
+                }
+                tenantLane.events.add(new ScheduledEvent(snapshot, processor, System.nanoTime()));
+                tenantQueue.pendingCount++;
+                pendingCount++;
+                eventAvailable.signal();
+                return;
+            }
+            tenantQueue.counters.overflowCount++;
+        } finally {
+            lock.unlock();
+        }
+        handleOverflow(snapshot, processor, tenantDomain);
+    }
+
+    /**
+     * Stop accepting events and wait for the queued events to be processed.
+     */
+    public void shutdown() {
+
+        lock.lock();
+        try {
+            shutdown = true;
+            eventAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        try {
+            for (Thread worker : workers) {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (pendingCount > 0) {
+                log.warn("Tenant fair scheduler did not stop within " + SHUTDOWN_TIMEOUT_SECONDS +
+                        " seconds. Dropped " + pendingCount + " queued notifications.");
+                for (TenantQueue tenantQueue : tenantQueues.values()) {
+                    tenantQueue.lanes.values().forEach(tenantLane -> tenantLane.events.clear());
+                    tenantQueue.pendingCount = 0;
+                }
+                runnableLanes.values().forEach(NavigableSet::clear);
+                pendingCount = 0;
+                eventAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the scheduling statistics of the tenants which have scheduled notifications, eg: to find the tenants with
+     * growing queues or long waits. The counts and the waits are cumulative since the scheduler is started.
+     *
+     * @return Statistics against the tenant domains.
+     */
+    public Map<String, TenantStats> getTenantStats() {
+
+        lock.lock();
+        try {
+            Map<String, TenantStats> tenantStats = new LinkedHashMap<>();
+            for (Map.Entry<String, TenantCounters> entry : tenantCounters.entrySet()) {
+                tenantStats.put(entry.getKey(), new TenantStats(entry.getKey(), entry.getValue(),
+                        tenantQueues.get(entry.getKey())));
+            }
+            return tenantStats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the scheduling statistics of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Statistics of the tenant, or null if the tenant has not scheduled a notification.
+     */
+    public TenantStats getTenantStats(String tenantDomain) {
+
+        lock.lock();
+        try {
+            TenantCounters counters = tenantCounters.get(tenantDomain);
+            return counters == null ? null : new TenantStats(tenantDomain, counters, tenantQueues.get(tenantDomain));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TenantQueue createTenantQueue(String tenantDomain) {
+
+        TenantSchedulingConfig config = tenantConfigs.get(tenantDomain);
+        TenantCounters counters = tenantCounters.computeIfAbsent(tenantDomain, domain -> new TenantCounters());
+        return new TenantQueue(tenantDomain, config == null ? defaultConfig : config, counters, tenantSequence++);
+    }
+
+    private static String getTenantDomain(NotificationEventSnapshot snapshot) {
+
+        Object tenantDomain = snapshot.getEventProperty(NotificationConstants.TENANT_DOMAIN);
+        if (tenantDomain instanceof String && StringUtils.isNotBlank((String) tenantDomain)) {
+            return (String) tenantDomain;
+        }
+        return StringUtils.defaultString(snapshot.getTenantDomain());
+    }
+
+    private void runWorker() {
+
+        while (true) {
+            TenantLane tenantLane;
+            ScheduledEvent scheduledEvent;
+            lock.lock();
+            try {
+                while ((tenantLane = nextTenantLane()) == null) {
+                    if (shutdown && pendingCount == 0) {
+                        return;
+                    }
+                    try {
+                        eventAvailable.await();
+                    } catch (InterruptedException e) {
+                        // Workers are stopped only by the shutdown, hence an interrupt, eg: left by a processor, does
+                        // not take the worker away from the other tenants.
+                        if (log.isDebugEnabled()) {
+                            log.debug("Ignoring the interrupt of the notification worker: " +
+                                    Thread.currentThread().getName());
+                        }
+                    }
+                }
+                scheduledEvent = startEvent(tenantLane);
+            } finally {
+                lock.unlock();
+            }
+
+            TenantQueue tenantQueue = tenantLane.tenantQueue;
+            boolean failed = false;
+            try {
+                scheduledEvent.snapshot.process(scheduledEvent.processor);
+            } catch (IdentityEventException | RuntimeException e) {
+                failed = true;
+                log.error("Error while processing the notification event: " + scheduledEvent.snapshot.getEventName() +
+                        " of tenant: " + tenantQueue.tenantDomain, e);
+            } finally {
+                lock.lock();
+                try {
+                    completeEvent(tenantQueue, failed);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the runnable lane with the lowest pass, of the highest priority which has a runnable lane.
+     *
+     * @return Tenant lane, or null if no tenant has a pending event and a free concurrency slot.
+     */
+    private TenantLane nextTenantLane() {
+
+        for (NavigableSet<TenantLane> lanes : runnableLanes.values()) {
+            if (!lanes.isEmpty()) {
+                return lanes.first();
+            }
+        }
+        return null;
+    }
+
+    private ScheduledEvent startEvent(TenantLane tenantLane) {
+
+        TenantQueue tenantQueue = tenantLane.tenantQueue;
+        NavigableSet<TenantLane> lanes = runnableLanes.get(tenantLane.priority);
+        // The lane is removed before its pass is advanced, since the runnable lanes are ordered by the pass.
+        lanes.remove(tenantLane);
+        ScheduledEvent scheduledEvent = tenantLane.events.poll();
+        tenantQueue.pendingCount--;
+        pendingCount--;
+        tenantQueue.inProgressCount++;
+        // The virtual time does not move backwards, hence a tenant which becomes active does not start behind the
+        // tenants which are already running.
+        virtualTimes.put(tenantLane.priority, Math.max(virtualTimes.get(tenantLane.priority), tenantLane.pass));
+        tenantLane.pass += 1.0 / tenantQueue.config.getWeight();
+        if (!tenantQueue.hasFreeSlot()) {
+            setRunnable(tenantQueue, false);
+        } else if (!tenantLane.events.isEmpty()) {
+            lanes.add(tenantLane);
+        }
+        TenantCounters counters = tenantQueue.counters;
+        long waitNanos = System.nanoTime() - scheduledEvent.queuedTime;
+        counters.startedCount++;
+        counters.totalWaitNanos += waitNanos;
+        counters.maxWaitNanos = Math.max(counters.maxWaitNanos, waitNanos);
+        return scheduledEvent;
+    }
+
+    private void completeEvent(TenantQueue tenantQueue, boolean failed) {
+
+        boolean hadFreeSlot = tenantQueue.hasFreeSlot();
+        tenantQueue.inProgressCount--;
+        tenantQueue.counters.processedCount++;
+        if (failed) {
+            tenantQueue.counters.failedCount++;
+        }
+        if (tenantQueue.pendingCount == 0 && tenantQueue.inProgressCount == 0) {
+            // The tenant is idle, hence its queues are removed, while its counters are kept. It resumes from the
+            // virtual time once it is back.
+            tenantQueues.remove(tenantQueue.tenantDomain);
+            return;
+        }
+        if (!hadFreeSlot) {
+            // The tenant was skipped by the workers while it was at its maximum concurrency.
+            setRunnable(tenantQueue, true);
+            eventAvailable.signal();
+        }
+    }
+
+    private void setRunnable(TenantQueue tenantQueue, boolean runnable) {
+
+        for (TenantLane tenantLane : tenantQueue.lanes.values()) {
+            if (tenantLane.events.isEmpty()) {
+                continue;
+            }
+            if (runnable) {
+                runnableLanes.get(tenantLane.priority).add(tenantLane);
+            } else {
+                runnableLanes.get(tenantLane.priority).remove(tenantLane);
+            }
+        }
+    }
+
+    private void handleOverflow(NotificationEventSnapshot snapshot, NotificationEventProcessor processor,
+                                String tenantDomain) throws IdentityEventException {
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                if (log.isDebugEnabled()) {
+                    log.debug("Notification queue of tenant: " + tenantDomain + " is full. Processing the event: " +
+                            snapshot.getEventName() + " in the caller thread.");
+                }
+                processor.process(snapshot.toEvent());
+                break;
+            case DISCARD:
+                log.warn("Notification queue of tenant: " + tenantDomain + " is full. Discarding the event: " +
+                        snapshot.getEventName());
+                break;
+            default:
+                throw new IdentityEventException("Notification queue of tenant: " + tenantDomain +
+                        " is full. Event: " + snapshot.getEventName() + " is rejected.");
+        }
+    }
+
+    /**
+     * Point in time scheduling statistics of a tenant. The queue depth and the in progress count are current, while
+     * the other counts and the waits are cumulative.
+     */
+    public static final class TenantStats {
+
+        private final String tenantDomain;
+        private final int queueDepth;
+        private final int inProgressCount;
+        private final long processedCount;
+        private final long failedCount;
+        private final long overflowCount;
+        private final long averageWaitMillis;
+        private final long maxWaitMillis;
+
+        private TenantStats(String tenantDomain, TenantCounters counters, TenantQueue tenantQueue) {
+
+            this.tenantDomain = tenantDomain;
+            this.queueDepth = tenantQueue == null ? 0 : tenantQueue.pendingCount;
+            this.inProgressCount = tenantQueue == null ? 0 : tenantQueue.inProgressCount;
+            this.processedCount = counters.processedCount;
+            this.failedCount = counters.failedCount;
+            this.overflowCount = counters.overflowCount;
+            this.averageWaitMillis = counters.startedCount == 0 ? 0 :
+                    TimeUnit.NANOSECONDS.toMillis(counters.totalWaitNanos / counters.startedCount);
+            this.maxWaitMillis = TimeUnit.NANOSECONDS.toMillis(counters.maxWaitNanos);
+        }
+
+        public String getTenantDomain() {
+
+            return tenantDomain;
+        }
+
+        /**
+         * Get the number of events of the tenant waiting for a worker.
+         *
+         * @return Queue depth.
+         */
+        public int getQueueDepth() {
+
+            return queueDepth;
+        }
+
+        public int getInProgressCount() {
+
+            return inProgressCount;
+        }
+
+        public long getProcessedCount() {
+
+            return processedCount;
+        }
+
+        public long getFailedCount() {
+
+            return failedCount;
+        }
+
+        /**
+         * Get the number of events which could not be queued since the queue of the tenant was full.
+         *
+         * @return Overflow count.
+         */
+        public long getOverflowCount() {
+
+            return overflowCount;
+        }
+
+        /**
+         * Get the average time the events of the tenant waited in the queue before a worker picked them.
+         *
+         * @return Average wait in milliseconds.
+         */
+        public long getAverageWaitMillis() {
+
+            return averageWaitMillis;
+        }
+
+        public long getMaxWaitMillis() {
+
+            return maxWaitMillis;
+        }
+
+        @Override
+        public String toString() {
+
+            return "tenant: " + tenantDomain + ", queueDepth: " + queueDepth + ", inProgress: " + inProgressCount +
+                    ", processed: " + processedCount + ", failed: " + failedCount + ", overflow: " + overflowCount +
+                    ", averageWaitMillis: " + averageWaitMillis + ", maxWaitMillis: " + maxWaitMillis;
+        }
+    }
+
+    /**
+     * Pending events and scheduling state of a tenant. Guarded by the scheduler lock.
+     */
+    private static final class TenantQueue {
+
+        private final String tenantDomain;
+        private final TenantSchedulingConfig config;
+        private final TenantCounters counters;
+        private final long sequence;
+        private final Map<NotificationPriority, TenantLane> lanes = new EnumMap<>(NotificationPriority.class);
+        private int pendingCount;
+        private int inProgressCount;
+
+        private TenantQueue(String tenantDomain, TenantSchedulingConfig config, TenantCounters counters,
+                            long sequence) {
+
+            this.tenantDomain = tenantDomain;
+            this.config = config;
+            this.counters = counters;
+            this.sequence = sequence;
+            for (NotificationPriority priority : NotificationPriority.values()) {
+                lanes.put(priority, new TenantLane(this, priority));
+            }
+        }
+
+        private boolean hasFreeSlot() {
+
+            return inProgressCount < config.getMaxConcurrency();
+        }
+    }
+
+    /**
+     * Cumulative scheduling counters of a tenant, which are kept when the queues of the tenant are removed. Guarded by
+     * the scheduler lock.
+     */
+    private static final class TenantCounters {
+
+        private long startedCount;
+        private long processedCount;
+        private long failedCount;
+        private long overflowCount;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+    }
+
+    /**
+     * Pending events of a tenant for a priority, along with the pass of the tenant for the priority. Guarded by the
+     * scheduler lock.
+     */
+    private static final class TenantLane {
+
+        private final TenantQueue tenantQueue;
+        private final NotificationPriority priority;
+        private final Queue<ScheduledEvent> events = new ArrayDeque<>();
+        private double pass;
+
+        private TenantLane(TenantQueue tenantQueue, NotificationPriority priority) {
+
+            this.tenantQueue = tenantQueue;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Notification event waiting in the queue of a tenant.
+     */
+    private static final class ScheduledEvent {
+
+        private final NotificationEventSnapshot snapshot;
+        private final NotificationEventProcessor processor;
+        private final long queuedTime;
+
+        private ScheduledEvent(NotificationEventSnapshot snapshot, NotificationEventProcessor processor,
+                               long queuedTime) {
+
+            this.snapshot = snapshot;
+            this.processor = processor;
+            this.queuedTime = queuedTime;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Share of a tenant in the {@link TenantFairScheduler}. A tenant with a higher weight gets proportionally more of the
+ * scheduler workers while other tenants have pending notifications, and never more than its maximum concurrency.
+ */
+public final class TenantSchedulingConfig {
+
+    public static final int DEFAULT_WEIGHT = 1;
+    public static final int DEFAULT_MAX_CONCURRENCY = 5;
+
+    private static final Log log = LogFactory.getLog(TenantSchedulingConfig.class);
+    private static final String TENANT_CONFIG_SEPARATOR = ",";
+    private static final String TENANT_DOMAIN_SEPARATOR = "=";
+    private static final String SHARE_SEPARATOR = "/";
+
+    private final int weight;
+    private final int maxConcurrency;
+
+    public TenantSchedulingConfig(int weight, int maxConcurrency) {
+
+        this.weight = weight;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getWeight() {
+
+        return weight;
+    }
+
+    public int getMaxConcurrency() {
+
+        return maxConcurrency;
+    }
+
+    /**
+     * Parse the shares configured per tenant, in the format of
+     * tenantDomain=weight/maxConcurrency[,tenantDomain=weight/maxConcurrency]. Invalid entries are logged and ignored.
+     *
+     * @param value Configured value.
+     * @return Shares against the tenant domains.
+     */
+    public static Map<String, TenantSchedulingConfig> parseTenantConfigs(String value) {
+
+        if (StringUtils.isBlank(value)) {
+            return Collections.emptyMap();
+        }
+        Map<String, TenantSchedulingConfig> tenantConfigs = new HashMap<>();
+        for (String tenantConfig : value.split(TENANT_CONFIG_SEPARATOR)) {
+            if (StringUtils.isBlank(tenantConfig)) {
+                continue;
+            }
+            String[] tenantDomainAndShare = tenantConfig.split(TENANT_DOMAIN_SEPARATOR);
+            String[] share = tenantDomainAndShare.length == 2 ?
+                    tenantDomainAndShare[1].split(SHARE_SEPARATOR) : new String[0];
+            if (share.length != 2 || StringUtils.isBlank(tenantDomainAndShare[0])) {
+                log.warn("Invalid tenant scheduling configuration: " + tenantConfig + ". Expected the format: " +
+                        "tenantDomain=weight/maxConcurrency");
+                continue;
+            }
+            try {
+                int weight = Integer.parseInt(share[0].trim());
+                int maxConcurrency = Integer.parseInt(share[1].trim());
+                if (weight <= 0 || maxConcurrency <= 0) {
+                    log.warn("Invalid tenant scheduling configuration: " + tenantConfig + ". The weight and the " +
+                            "maximum concurrency should be positive.");
+                    continue;
+                }
+                tenantConfigs.put(tenantDomainAndShare[0].trim(), new TenantSchedulingConfig(weight, maxConcurrency));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid tenant scheduling configuration: " + tenantConfig + ". Expected the format: " +
+                        "tenantDomain=weight/maxConcurrency");
+            }
+        }
+        return tenantConfigs;
+    }
+
+    @Override
+    public String toString() {
+
+        return "weight: " + weight + ", maxConcurrency: " + maxConcurrency;
+    }
+}
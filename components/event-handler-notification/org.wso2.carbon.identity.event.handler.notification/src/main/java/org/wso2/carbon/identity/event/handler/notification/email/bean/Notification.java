@@ -20,57 +20,66 @@ package org.wso2.carbon.identity.event.handler.notification.email.bean;
 
 
 import org.apache.commons.lang.StringUtils;
-import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledEmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplate;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.template.RenderedTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.template.SharedPlaceholders;
 
 import java.io.Serializable;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
 
 public class Notification implements Serializable {
 
     private String sendTo;
     private String sendFrom;
     private EmailTemplate template;
+    private transient CompiledEmailTemplate compiledTemplate;
     private String subject;
     private String body;
     private String footer;
     private Map<String, String> placeHolderData;
+    private int tenantId;
+    private String applicationUuid;
+    private SharedPlaceholders sharedPlaceholders;
+    private boolean subjectRendered;
+    private boolean bodyRendered;
+    private boolean footerRendered;
 
     protected Notification(EmailNotificationBuilder builder) {
         this.sendTo = builder.sendTo;
         this.sendFrom = builder.sendFrom;
         this.template = builder.template;
-        this.placeHolderData = builder.placeHolderData;
-        this.body = replaceTags(template.getBody(), placeHolderData);
-        if (StringUtils.isNotEmpty(template.getSubject())) {
-            this.subject = replaceTags(template.getSubject(), placeHolderData);
-        }
-        if (StringUtils.isNotEmpty(template.getFooter())) {
-            this.footer = replaceTags(template.getFooter(), placeHolderData);
-        }
+        this.compiledTemplate = builder.compiledTemplate;
+        // The parts are rendered when they are first requested. Hence the placeholder data is copied, so that the
+        // changes done to the builder's map after building the notification do not change the rendered parts.
+        this.placeHolderData = new HashMap<>(builder.placeHolderData);
+        this.tenantId = builder.tenantId;
+        this.applicationUuid = builder.applicationUuid;
+        this.sharedPlaceholders = builder.sharedPlaceholders;
     }
 
-    private static String replaceTags(String content, Map<String, String> tagsData) {
+    private String replaceTags(CompiledTemplate content) {
 
-        for (Map.Entry<String, String> entry : tagsData.entrySet()) {
-            try {
+        // In email templates the placeholders in a URL, are defined in the format of {{url:key}} -
+        // eg:{{url:user-name}}, So that the values are URL Encoded while rendering.
+        RenderedTemplateCache renderedTemplateCache = RenderedTemplateCache.getInstance();
+        if (sharedPlaceholders != null && renderedTemplateCache.isEnabled()) {
+            return renderedTemplateCache.render(tenantId, applicationUuid, template.getLocale(), content,
+                    placeHolderData, sharedPlaceholders);
+        }
+        return content.render(placeHolderData);
+    }
 
-                // In email templates the placeholders in a URL, are defined in the format of {{url:key}} -
-                // eg:{{url:user-name}}, So that the values should be URL Encoded
-                content = content.replaceAll("\\{\\{url:" + entry.getKey() + "\\}\\}", URLEncoder.encode(entry.getValue(),
-                        "UTF-8"));
-            } catch (UnsupportedEncodingException e) {
-                throw NotificationRuntimeException.error(e.getMessage(), e);
-            }
+    private CompiledEmailTemplate getCompiledTemplate() {
 
-            // Backslashes (\) and dollar signs ($) in the replacement string is not treated as a literals.
-            content = content.replaceAll("\\{\\{" + entry.getKey() + "\\}\\}", Matcher.quoteReplacement(entry
-                    .getValue()));
+        // The compiled template is looked up only if it is not given to the builder.
+        if (compiledTemplate == null) {
+            compiledTemplate = CompiledTemplateCache.getInstance().getCompiledEmailTemplate(template);
         }
-        return content;
+        return compiledTemplate;
     }
 
     public String getSendTo() {
@@ -85,15 +94,46 @@ public class Notification implements Serializable {
         return this.template;
     }
 
+    /**
+     * Get the subject rendered with the placeholder data. The subject is rendered on the first invocation.
+     *
+     * @return Rendered subject, or null if the template does not have a subject.
+     */
     public String getSubject() {
+        if (!subjectRendered) {
+            if (StringUtils.isNotEmpty(template.getSubject())) {
+                this.subject = replaceTags(getCompiledTemplate().getSubject());
+            }
+            subjectRendered = true;
+        }
         return this.subject;
     }
 
+    /**
+     * Get the body rendered with the placeholder data. The body is rendered on the first invocation.
+     *
+     * @return Rendered body.
+     */
     public String getBody() {
+        if (!bodyRendered) {
+            this.body = replaceTags(getCompiledTemplate().getBody());
+            bodyRendered = true;
+        }
         return this.body;
     }
 
+    /**
+     * Get the footer rendered with the placeholder data. The footer is rendered on the first invocation.
+     *
+     * @return Rendered footer, or null if the template does not have a footer.
+     */
     public String getFooter() {
+        if (!footerRendered) {
+            if (StringUtils.isNotEmpty(template.getFooter())) {
+                this.footer = replaceTags(getCompiledTemplate().getFooter());
+            }
+            footerRendered = true;
+        }
         return this.footer;
     }
 
@@ -103,7 +143,11 @@ public class Notification implements Serializable {
         private String sendTo;
         private String sendFrom;
         private EmailTemplate template;
+        private CompiledEmailTemplate compiledTemplate;
         private Map<String, String> placeHolderData;
+        private int tenantId;
+        private String applicationUuid;
+        private SharedPlaceholders sharedPlaceholders;
 
         public EmailNotificationBuilder(String sendTo) {
             this.sendTo = sendTo;
@@ -113,6 +157,16 @@ public class Notification implements Serializable {
             this.template = template;
         }
 
+        /**
+         * Set the compiled form of the template, so that the parts are rendered without looking up the compiled
+         * template again.
+         *
+         * @param compiledTemplate Compiled template of the template set to the builder.
+         */
+        public void setCompiledTemplate(CompiledEmailTemplate compiledTemplate) {
+            this.compiledTemplate = compiledTemplate;
+        }
+
         public void setSendFrom(String sendFrom) {
             this.sendFrom = sendFrom;
         }
@@ -125,6 +179,21 @@ public class Notification implements Serializable {
             this.placeHolderData.put(key, value);
         }
 
+        /**
+         * Set the placeholders whose values do not depend on the recipient, so that they are rendered once per
+         * tenant, application and template when the rendered template cache is enabled.
+         *
+         * @param tenantId           Tenant ID.
+         * @param applicationUuid    Application UUID, or null for organization level templates.
+         * @param sharedPlaceholders Placeholders which do not depend on the recipient.
+         */
+        public void setSharedPlaceholders(int tenantId, String applicationUuid,
+                                          SharedPlaceholders sharedPlaceholders) {
+            this.tenantId = tenantId;
+            this.applicationUuid = applicationUuid;
+            this.sharedPlaceholders = sharedPlaceholders;
+        }
+
         public Notification build() {
             return new Notification(this);
         }
@@ -23,6 +23,10 @@ import java.util.Map;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationIdCache;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.PriorityLaneDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.TenantFairScheduler;
 import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementService;
@@ -34,6 +38,8 @@ import org.wso2.carbon.email.mgt.EmailTemplateManager;
 
 public class NotificationHandlerDataHolder {
 
+    public static final int DEFAULT_USER_CLAIM_BATCH_SIZE = 100;
+
     private static volatile NotificationHandlerDataHolder instance = new NotificationHandlerDataHolder();
     private RealmService realmService = null;
     private RegistryService registryService = null;
@@ -45,6 +51,18 @@ public class NotificationHandlerDataHolder {
     private ApplicationManagementService applicationManagementService;
     private NotificationSenderManagementService notificationSenderManagementService;
     private final Map<String, PushProvider> pushNotificationProviders = new HashMap<>();
+    private boolean skipTemplateContentInEvent = false;
+    private boolean renderPublisherMappedFieldsOnly = false;
+    private boolean resolveTemplatePlaceholdersOnly = false;
+    private boolean fetchTemplateClaimsOnly = false;
+    private int userClaimBatchSize = DEFAULT_USER_CLAIM_BATCH_SIZE;
+    private volatile NotificationDispatcher notificationDispatcher;
+    private volatile PriorityLaneDispatcher priorityLaneDispatcher;
+    private volatile TenantFairScheduler tenantFairScheduler;
+    private volatile Map<String, String> configFilePlaceholders;
+    private volatile Map<String, String> brandingFallbacks;
+    private volatile String configurationVersion = "";
+    private final OrganizationIdCache organizationIdCache = new OrganizationIdCache();
 
     public ApplicationManagementService getApplicationManagementService() {
 
@@ -197,4 +215,211 @@ public class NotificationHandlerDataHolder {
 
         return pushNotificationProviders.get(providerName);
     }
+
+    /**
+     * Check whether the raw subject, body and footer templates should be skipped when publishing the rendered
+     * notification to the event stream.
+     *
+     * @return True if the template content should not be published.
+     */
+    public boolean isSkipTemplateContentInEvent() {
+
+        return skipTemplateContentInEvent;
+    }
+
+    /**
+     * Set whether the raw subject, body and footer templates should be skipped when publishing the rendered
+     * notification to the event stream.
+     *
+     * @param skipTemplateContentInEvent True if the template content should not be published.
+     */
+    public void setSkipTemplateContentInEvent(boolean skipTemplateContentInEvent) {
+
+        this.skipTemplateContentInEvent = skipTemplateContentInEvent;
+    }
+
+    /**
+     * Check whether only the rendered notification parts referenced by the active event publishers of the stream
+     * should be rendered and published.
+     *
+     * @return True if only the referenced parts should be rendered.
+     */
+    public boolean isRenderPublisherMappedFieldsOnly() {
+
+        return renderPublisherMappedFieldsOnly;
+    }
+
+    /**
+     * Set whether only the rendered notification parts referenced by the active event publishers of the stream
+     * should be rendered and published.
+     *
+     * @param renderPublisherMappedFieldsOnly True if only the referenced parts should be rendered.
+     */
+    public void setRenderPublisherMappedFieldsOnly(boolean renderPublisherMappedFieldsOnly) {
+
+        this.renderPublisherMappedFieldsOnly = renderPublisherMappedFieldsOnly;
+    }
+
+    /**
+     * Check whether the URL placeholder values should be resolved only when they are used by the notification
+     * template, instead of adding all of them to the event.
+     *
+     * @return True if only the URL placeholders used by the template should be resolved.
+     */
+    public boolean isResolveTemplatePlaceholdersOnly() {
+
+        return resolveTemplatePlaceholdersOnly;
+    }
+
+    /**
+     * Set whether the URL placeholder values should be resolved only when they are used by the notification
+     * template, instead of adding all of them to the event.
+     *
+     * @param resolveTemplatePlaceholdersOnly True if only the URL placeholders used by the template should be
+     *                                        resolved.
+     */
+    public void setResolveTemplatePlaceholdersOnly(boolean resolveTemplatePlaceholdersOnly) {
+
+        this.resolveTemplatePlaceholdersOnly = resolveTemplatePlaceholdersOnly;
+    }
+
+    /**
+     * Check whether only the user claims used by the notification template, and the claims needed to select the
+     * template and the recipient, should be fetched from the user store instead of all the claims of the user.
+     *
+     * @return True if only the user claims used by the template should be fetched.
+     */
+    public boolean isFetchTemplateClaimsOnly() {
+
+        return fetchTemplateClaimsOnly;
+    }
+
+    /**
+     * Set whether only the user claims used by the notification template, and the claims needed to select the
+     * template and the recipient, should be fetched from the user store instead of all the claims of the user.
+     *
+     * @param fetchTemplateClaimsOnly True if only the user claims used by the template should be fetched.
+     */
+    public void setFetchTemplateClaimsOnly(boolean fetchTemplateClaimsOnly) {
+
+        this.fetchTemplateClaimsOnly = fetchTemplateClaimsOnly;
+    }
+
+    /**
+     * Get the maximum number of users whose claims are retrieved with one user store call when the notifications of
+     * multiple events are handled together.
+     *
+     * @return User claim batch size.
+     */
+    public int getUserClaimBatchSize() {
+
+        return userClaimBatchSize;
+    }
+
+    public void setUserClaimBatchSize(int userClaimBatchSize) {
+
+        this.userClaimBatchSize = userClaimBatchSize;
+    }
+
+    /**
+     * Get the dispatcher used to process notification events asynchronously.
+     *
+     * @return Notification dispatcher, or null if notification events are processed synchronously.
+     */
+    public NotificationDispatcher getNotificationDispatcher() {
+
+        return notificationDispatcher;
+    }
+
+    public void setNotificationDispatcher(NotificationDispatcher notificationDispatcher) {
+
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    /**
+     * Get the dispatcher used to process notification events asynchronously through a lane per priority.
+     *
+     * @return Priority lane dispatcher, or null if priority lanes are not enabled.
+     */
+    public PriorityLaneDispatcher getPriorityLaneDispatcher() {
+
+        return priorityLaneDispatcher;
+    }
+
+    public void setPriorityLaneDispatcher(PriorityLaneDispatcher priorityLaneDispatcher) {
+
+        this.priorityLaneDispatcher = priorityLaneDispatcher;
+    }
+
+    /**
+     * Get the scheduler used to share the notification processing fairly among the tenants.
+     *
+     * @return Tenant fair scheduler, or null if fair scheduling is not enabled.
+     */
+    public TenantFairScheduler getTenantFairScheduler() {
+
+        return tenantFairScheduler;
+    }
+
+    public void setTenantFairScheduler(TenantFairScheduler tenantFairScheduler) {
+
+        this.tenantFairScheduler = tenantFairScheduler;
+    }
+
+    /**
+     * Get the template placeholder values loaded from the identity.xml.
+     *
+     * @return Unmodifiable map of the template placeholder values, or null if the values are not loaded.
+     */
+    public Map<String, String> getConfigFilePlaceholders() {
+
+        return configFilePlaceholders;
+    }
+
+    public void setConfigFilePlaceholders(Map<String, String> configFilePlaceholders) {
+
+        this.configFilePlaceholders = configFilePlaceholders;
+    }
+
+    /**
+     * Get the organization level email branding fallbacks loaded from the identity.xml.
+     *
+     * @return Unmodifiable map of the branding fallbacks, or null if the fallbacks are not loaded.
+     */
+    public Map<String, String> getBrandingFallbacks() {
+
+        return brandingFallbacks;
+    }
+
+    public void setBrandingFallbacks(Map<String, String> brandingFallbacks) {
+
+        this.brandingFallbacks = brandingFallbacks;
+    }
+
+    /**
+     * Get the version of the template placeholder values and the branding fallbacks loaded from the identity.xml.
+     * The version changes when the loaded values change, hence the templates rendered with the previous values are
+     * not reused.
+     *
+     * @return Version of the loaded configurations.
+     */
+    public String getConfigurationVersion() {
+
+        return configurationVersion;
+    }
+
+    public void setConfigurationVersion(String configurationVersion) {
+
+        this.configurationVersion = configurationVersion;
+    }
+
+    /**
+     * Get the cache of the organization IDs resolved for tenant domains.
+     *
+     * @return Organization ID cache.
+     */
+    public OrganizationIdCache getOrganizationIdCache() {
+
+        return organizationIdCache;
+    }
 }
@@ -17,23 +17,47 @@
  */
 package org.wso2.carbon.identity.event.handler.notification.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.handler.notification.DefaultNotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.NotificationCacheInvalidationHandler;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
 import org.wso2.carbon.identity.event.handler.notification.NotificationHandler;
 import org.wso2.carbon.identity.event.handler.notification.PushNotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.cache.AbstractNotificationCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.ApplicationUuidCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.NotificationUrlProfileCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationNameCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.PublisherMappedFieldsCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserClaimCache;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationPriority;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.OverflowPolicy;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.PriorityLaneDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.TenantFairScheduler;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.TenantSchedulingConfig;
+import org.wso2.carbon.identity.event.handler.notification.listener.NotificationApplicationMgtListener;
 import org.wso2.carbon.identity.event.handler.notification.listener.NotificationEventTenantListener;
+import org.wso2.carbon.identity.event.handler.notification.listener.NotificationUserOperationEventListener;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.template.RenderedTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.email.mgt.EmailTemplateManager;
 import org.osgi.service.component.annotations.Activate;
@@ -43,6 +67,9 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Component(
          name = "identity.event.handler.notification", 
          immediate = true)
@@ -56,7 +83,54 @@ public class NotificationHandlerServiceComponent {
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new NotificationHandler(), null);
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new DefaultNotificationHandler(), null);
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new PushNotificationHandler(), null);
+            context.getBundleContext().registerService(AbstractEventHandler.class.getName(),
+                    new NotificationCacheInvalidationHandler(), null);
             context.getBundleContext().registerService(TenantMgtListener.class.getName(), new NotificationEventTenantListener(), null);
+            context.getBundleContext().registerService(ApplicationMgtListener.class.getName(),
+                    new NotificationApplicationMgtListener(), null);
+            context.getBundleContext().registerService(UserOperationEventListener.class.getName(),
+                    new NotificationUserOperationEventListener(), null);
+            configureNotificationCache(CompiledTemplateCache.getInstance(),
+                    NotificationConstants.COMPILED_TEMPLATE_CACHE_ENABLE,
+                    NotificationConstants.COMPILED_TEMPLATE_CACHE_TIME_TO_LIVE, true);
+            configureNotificationCache(RenderedTemplateCache.getInstance(),
+                    NotificationConstants.RENDERED_TEMPLATE_CACHE_ENABLE,
+                    NotificationConstants.RENDERED_TEMPLATE_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(BrandingPreferenceCache.getInstance(),
+                    NotificationConstants.BRANDING_PREFERENCE_CACHE_ENABLE,
+                    NotificationConstants.BRANDING_PREFERENCE_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(NotificationUrlProfileCache.getInstance(),
+                    NotificationConstants.URL_PROFILE_CACHE_ENABLE,
+                    NotificationConstants.URL_PROFILE_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(OrganizationNameCache.getInstance(),
+                    NotificationConstants.ORGANIZATION_NAME_CACHE_ENABLE,
+                    NotificationConstants.ORGANIZATION_NAME_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(NotificationHandlerDataHolder.getInstance().getOrganizationIdCache(),
+                    NotificationConstants.ORGANIZATION_ID_CACHE_ENABLE,
+                    NotificationConstants.ORGANIZATION_ID_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(ApplicationUuidCache.getInstance(),
+                    NotificationConstants.APPLICATION_UUID_CACHE_ENABLE,
+                    NotificationConstants.APPLICATION_UUID_CACHE_TIME_TO_LIVE);
+            configureNotificationCache(UserClaimCache.getInstance(),
+                    NotificationConstants.USER_CLAIM_CACHE_ENABLE,
+                    NotificationConstants.USER_CLAIM_CACHE_TIME_TO_LIVE);
+            PublisherMappedFieldsCache.getInstance().setTimeToLive(readPositiveIntProperty(
+                    NotificationConstants.PUBLISHER_MAPPED_FIELDS_CACHE_TIME_TO_LIVE,
+                    (int) PublisherMappedFieldsCache.DEFAULT_TIME_TO_LIVE_SECONDS));
+            NotificationHandlerDataHolder.getInstance().setSkipTemplateContentInEvent(Boolean.parseBoolean(
+                    IdentityUtil.getProperty(NotificationConstants.SKIP_TEMPLATE_CONTENT_IN_EVENT)));
+            NotificationHandlerDataHolder.getInstance().setRenderPublisherMappedFieldsOnly(Boolean.parseBoolean(
+                    IdentityUtil.getProperty(NotificationConstants.RENDER_PUBLISHER_MAPPED_FIELDS_ONLY)));
+            NotificationHandlerDataHolder.getInstance().setResolveTemplatePlaceholdersOnly(Boolean.parseBoolean(
+                    IdentityUtil.getProperty(NotificationConstants.RESOLVE_TEMPLATE_PLACEHOLDERS_ONLY)));
+            NotificationHandlerDataHolder.getInstance().setFetchTemplateClaimsOnly(Boolean.parseBoolean(
+                    IdentityUtil.getProperty(NotificationConstants.FETCH_TEMPLATE_CLAIMS_ONLY)));
+            NotificationHandlerDataHolder.getInstance().setUserClaimBatchSize(readPositiveIntProperty(
+                    NotificationConstants.USER_CLAIM_BATCH_SIZE,
+                    NotificationHandlerDataHolder.DEFAULT_USER_CLAIM_BATCH_SIZE));
+            configureNotificationDispatcher();
+            configureTenantFairScheduler();
+            NotificationUtil.loadConfigFileValues();
         } catch (Throwable e) {
             log.error("Error occurred while activating Notification Handler Service Component", e);
         }
@@ -67,11 +141,184 @@ public class NotificationHandlerServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        NotificationDispatcher notificationDispatcher =
+                NotificationHandlerDataHolder.getInstance().getNotificationDispatcher();
+        if (notificationDispatcher != null) {
+            NotificationHandlerDataHolder.getInstance().setNotificationDispatcher(null);
+            notificationDispatcher.shutdown();
+        }
+        TenantFairScheduler tenantFairScheduler = NotificationHandlerDataHolder.getInstance().getTenantFairScheduler();
+        if (tenantFairScheduler != null) {
+            NotificationHandlerDataHolder.getInstance().setTenantFairScheduler(null);
+            tenantFairScheduler.shutdown();
+        }
+        PriorityLaneDispatcher priorityLaneDispatcher =
+                NotificationHandlerDataHolder.getInstance().getPriorityLaneDispatcher();
+        if (priorityLaneDispatcher != null) {
+            NotificationHandlerDataHolder.getInstance().setPriorityLaneDispatcher(null);
+            priorityLaneDispatcher.shutdown();
+        }
+        NotificationHandlerDataHolder.getInstance().setConfigFilePlaceholders(null);
+        NotificationHandlerDataHolder.getInstance().setBrandingFallbacks(null);
         if (log.isDebugEnabled()) {
             log.debug("Notification Handler bundle is de-activated");
         }
     }
 
+    private void configureNotificationDispatcher() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(NotificationConstants.ASYNC_DISPATCH_ENABLE))) {
+            return;
+        }
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(NotificationConstants.FAIR_SCHEDULING_ENABLE))) {
+            log.warn("Asynchronous notification dispatch and priority lanes are not enabled since tenant fair " +
+                    "scheduling is enabled. The tenant fair scheduler processes the notifications asynchronously " +
+                    "in the order of their priorities.");
+            return;
+        }
+        int queueSize = readPositiveIntProperty(NotificationConstants.ASYNC_DISPATCH_QUEUE_SIZE,
+                NotificationDispatcher.DEFAULT_QUEUE_SIZE);
+        int workerCount = readPositiveIntProperty(NotificationConstants.ASYNC_DISPATCH_WORKER_COUNT,
+                NotificationDispatcher.DEFAULT_WORKER_COUNT);
+        OverflowPolicy overflowPolicy = readOverflowPolicy(NotificationConstants.ASYNC_DISPATCH_OVERFLOW_POLICY,
+                OverflowPolicy.CALLER_RUNS);
+        boolean virtualThreadsEnabled = Boolean.parseBoolean(
+                IdentityUtil.getProperty(NotificationConstants.ASYNC_DISPATCH_VIRTUAL_THREADS_ENABLE));
+        int tenantConcurrency = readPositiveIntProperty(NotificationConstants.ASYNC_DISPATCH_TENANT_CONCURRENCY,
+                NotificationDispatcher.DEFAULT_TENANT_CONCURRENCY);
+
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(NotificationConstants.PRIORITY_LANES_ENABLE))) {
+            Map<NotificationPriority, NotificationDispatcher> lanes = new EnumMap<>(NotificationPriority.class);
+            for (NotificationPriority priority : NotificationPriority.values()) {
+                String laneName = priority.getConfigName();
+                int laneQueueSize = readPositiveIntProperty(
+                        String.format(NotificationConstants.PRIORITY_LANE_QUEUE_SIZE, laneName),
+                        priority.getDefaultQueueSize());
+                int laneWorkerCount = readPositiveIntProperty(
+                        String.format(NotificationConstants.PRIORITY_LANE_WORKER_COUNT, laneName),
+                        priority.getDefaultWorkerCount());
+                // Critical notifications are never dropped by default, since a user is waiting for them.
+                OverflowPolicy laneOverflowPolicy = readOverflowPolicy(
+                        String.format(NotificationConstants.PRIORITY_LANE_OVERFLOW_POLICY, laneName),
+                        priority == NotificationPriority.CRITICAL ? OverflowPolicy.CALLER_RUNS : overflowPolicy);
+                NotificationDispatcher lane = createNotificationDispatcher(laneQueueSize, laneWorkerCount,
+                        laneOverflowPolicy, virtualThreadsEnabled, tenantConcurrency);
+                lane.setMaxWait(readPositiveIntProperty(
+                        String.format(NotificationConstants.PRIORITY_LANE_MAX_WAIT, laneName),
+                        (int) priority.getDefaultMaxWaitMillis()));
+                lanes.put(priority, lane);
+                if (log.isDebugEnabled()) {
+                    log.debug("Notification priority lane: " + priority + " is enabled with queue size: " +
+                            laneQueueSize + ", worker count: " + laneWorkerCount + ", overflow policy: " +
+                            laneOverflowPolicy + " and maximum wait: " + lane.getMaxWait() + " ms");
+                }
+            }
+            NotificationHandlerDataHolder.getInstance().setPriorityLaneDispatcher(new PriorityLaneDispatcher(lanes));
+            return;
+        }
+        NotificationHandlerDataHolder.getInstance().setNotificationDispatcher(createNotificationDispatcher(
+                queueSize, workerCount, overflowPolicy, virtualThreadsEnabled, tenantConcurrency));
+        if (log.isDebugEnabled()) {
+            log.debug("Asynchronous notification dispatch is enabled with queue size: " + queueSize +
+                    ", worker count: " + workerCount + ", overflow policy: " + overflowPolicy +
+                    " and virtual threads enabled: " + virtualThreadsEnabled);
+        }
+    }
+
+    private void configureTenantFairScheduler() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(NotificationConstants.FAIR_SCHEDULING_ENABLE))) {
+            return;
+        }
+        int workerCount = readPositiveIntProperty(NotificationConstants.FAIR_SCHEDULING_WORKER_COUNT,
+                TenantFairScheduler.DEFAULT_WORKER_COUNT);
+        int queueSize = readPositiveIntProperty(NotificationConstants.FAIR_SCHEDULING_QUEUE_SIZE,
+                TenantFairScheduler.DEFAULT_QUEUE_SIZE);
+        OverflowPolicy overflowPolicy = readOverflowPolicy(NotificationConstants.FAIR_SCHEDULING_OVERFLOW_POLICY,
+                OverflowPolicy.CALLER_RUNS);
+        TenantSchedulingConfig defaultConfig = new TenantSchedulingConfig(
+                readPositiveIntProperty(NotificationConstants.FAIR_SCHEDULING_DEFAULT_WEIGHT,
+                        TenantSchedulingConfig.DEFAULT_WEIGHT),
+                readPositiveIntProperty(NotificationConstants.FAIR_SCHEDULING_DEFAULT_MAX_CONCURRENCY,
+                        TenantSchedulingConfig.DEFAULT_MAX_CONCURRENCY));
+        Map<String, TenantSchedulingConfig> tenantConfigs = TenantSchedulingConfig.parseTenantConfigs(
+                IdentityUtil.getProperty(NotificationConstants.FAIR_SCHEDULING_TENANT_CONFIGS));
+        NotificationHandlerDataHolder.getInstance().setTenantFairScheduler(new TenantFairScheduler(workerCount,
+                queueSize, overflowPolicy, defaultConfig, tenantConfigs));
+        if (log.isDebugEnabled()) {
+            log.debug("Tenant fair scheduling of notifications is enabled with worker count: " + workerCount +
+                    ", queue size per tenant and priority: " + queueSize + ", overflow policy: " + overflowPolicy +
+                    ", default share: " + defaultConfig + " and tenant shares: " + tenantConfigs);
+        }
+    }
+
+    private NotificationDispatcher createNotificationDispatcher(int queueSize, int workerCount,
+                                                                OverflowPolicy overflowPolicy,
+                                                                boolean virtualThreadsEnabled, int tenantConcurrency) {
+
+        if (virtualThreadsEnabled) {
+            return NotificationDispatcher.withVirtualThreads(queueSize, workerCount, tenantConcurrency,
+                    overflowPolicy);
+        }
+        return new NotificationDispatcher(queueSize, workerCount, overflowPolicy);
+    }
+
+    private OverflowPolicy readOverflowPolicy(String property, OverflowPolicy defaultPolicy) {
+
+        String overflowPolicyName = IdentityUtil.getProperty(property);
+        OverflowPolicy overflowPolicy = OverflowPolicy.fromName(overflowPolicyName, defaultPolicy);
+        if (StringUtils.isNotBlank(overflowPolicyName) && !overflowPolicy.name().equalsIgnoreCase(
+                overflowPolicyName.trim())) {
+            log.warn("Invalid value: " + overflowPolicyName + " configured for " + property +
+                    ". Using the overflow policy: " + overflowPolicy);
+        }
+        return overflowPolicy;
+    }
+
+    private int readPositiveIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Invalid values are logged below.
+        }
+        log.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
+    private void configureNotificationCache(AbstractNotificationCache<?, ?> cache, String enableProperty,
+                                            String timeToLiveProperty) {
+
+        configureNotificationCache(cache, enableProperty, timeToLiveProperty, false);
+    }
+
+    private void configureNotificationCache(AbstractNotificationCache<?, ?> cache, String enableProperty,
+                                            String timeToLiveProperty, boolean enabledByDefault) {
+
+        String enable = IdentityUtil.getProperty(enableProperty);
+        cache.setEnabled(StringUtils.isBlank(enable) ? enabledByDefault : Boolean.parseBoolean(enable.trim()));
+        if (!cache.isEnabled()) {
+            return;
+        }
+        String timeToLive = IdentityUtil.getProperty(timeToLiveProperty);
+        if (StringUtils.isNotBlank(timeToLive)) {
+            try {
+                cache.setTimeToLive(Long.parseLong(timeToLive.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + timeToLive + " configured for " + timeToLiveProperty +
+                        ". Using the time to live: " + cache.getTimeToLive() + " seconds.");
+            }
+        }
+    }
+
     @Reference(
              name = "registry.service", 
              service = org.wso2.carbon.registry.core.service.RegistryService.class, 
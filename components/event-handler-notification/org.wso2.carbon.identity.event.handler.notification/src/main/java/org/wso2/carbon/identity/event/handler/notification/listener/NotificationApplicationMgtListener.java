@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.handler.notification.cache.ApplicationUuidCache;
+
+/**
+ * Application management listener which removes the cached application resource IDs of the applications which are
+ * created, updated or deleted.
+ */
+public class NotificationApplicationMgtListener extends AbstractApplicationMgtListener {
+
+    private static final int DEFAULT_ORDER_ID = 900;
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return DEFAULT_ORDER_ID;
+    }
+
+    @Override
+    public boolean doPostCreateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        // Remove the entry cached when the application was not found.
+        ApplicationUuidCache.getInstance().invalidate(IdentityTenantUtil.getTenantId(tenantDomain),
+                serviceProvider.getApplicationName());
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        // The previous name of a renamed application is not known, hence all the entries of the tenant are removed.
+        ApplicationUuidCache.getInstance().invalidate(IdentityTenantUtil.getTenantId(tenantDomain));
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        ApplicationUuidCache.getInstance().invalidate(IdentityTenantUtil.getTenantId(tenantDomain), applicationName);
+        return true;
+    }
+}
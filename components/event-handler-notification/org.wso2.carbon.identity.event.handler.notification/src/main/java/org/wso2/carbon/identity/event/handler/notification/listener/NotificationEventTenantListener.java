@@ -23,7 +23,14 @@ import org.wso2.carbon.event.output.adapter.core.OutputEventAdapterConfiguration
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
 import org.wso2.carbon.event.publisher.core.config.mapping.TextOutputMapping;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.cache.ApplicationUuidCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.NotificationUrlProfileCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationNameCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.PublisherMappedFieldsCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserClaimCache;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.template.RenderedTemplateCache;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
 import org.wso2.carbon.stratos.common.exception.StratosException;
@@ -43,6 +50,8 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     @Override
     public void onTenantUpdate(TenantInfoBean tenantInfoBean) throws StratosException {
 
+        NotificationUrlProfileCache.getInstance().invalidate(tenantInfoBean.getTenantId());
+        RenderedTemplateCache.getInstance().invalidate(tenantInfoBean.getTenantId());
     }
 
     @Override
@@ -51,8 +60,12 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     }
 
     @Override
-    public void onTenantRename(int i, String s, String s2) throws StratosException {
+    public void onTenantRename(int tenantId, String oldDomainName, String newDomainName) throws StratosException {
 
+        NotificationUrlProfileCache.getInstance().invalidate(tenantId);
+        OrganizationNameCache.getInstance().invalidate(tenantId);
+        NotificationHandlerDataHolder.getInstance().getOrganizationIdCache().invalidate(tenantId);
+        RenderedTemplateCache.getInstance().invalidate(tenantId);
     }
 
     @Override
@@ -75,8 +88,10 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     }
 
     @Override
-    public void onTenantDeactivation(int i) throws StratosException {
+    public void onTenantDeactivation(int tenantId) throws StratosException {
 
+        NotificationUrlProfileCache.getInstance().invalidate(tenantId);
+        RenderedTemplateCache.getInstance().invalidate(tenantId);
     }
 
     @Override
@@ -90,8 +105,17 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     }
 
     @Override
-    public void onPreDelete(int i) throws StratosException {
-
+    public void onPreDelete(int tenantId) throws StratosException {
+
+        // The cached entries are removed while the tenant can still be resolved.
+        BrandingPreferenceCache.getInstance().invalidate(tenantId);
+        NotificationUrlProfileCache.getInstance().invalidate(tenantId);
+        OrganizationNameCache.getInstance().invalidate(tenantId);
+        NotificationHandlerDataHolder.getInstance().getOrganizationIdCache().invalidate(tenantId);
+        ApplicationUuidCache.getInstance().invalidate(tenantId);
+        UserClaimCache.getInstance().invalidate(tenantId);
+        RenderedTemplateCache.getInstance().invalidate(tenantId);
+        PublisherMappedFieldsCache.getInstance().invalidate(tenantId);
     }
 
     private EventPublisherConfiguration getEventPublisherConfig() {
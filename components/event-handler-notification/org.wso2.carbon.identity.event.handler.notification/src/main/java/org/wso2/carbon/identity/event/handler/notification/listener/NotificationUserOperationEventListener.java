@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserClaimCache;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which removes the cached claim values of the users whose claims are changed or who
+ * are deleted.
+ */
+public class NotificationUserOperationEventListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final int DEFAULT_ORDER_ID = 150;
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return DEFAULT_ORDER_ID;
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValues(String userName, Map<String, String> claims, String profileName,
+                                            UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValues(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostUpdateCredential(String userName, Object credential, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        // Identity claims such as the last password update time change with the credential.
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostUpdateCredentialByAdmin(String userName, Object credential,
+                                                 UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUser(String userName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidateUserClaims(userName, userStoreManager);
+    }
+
+    private boolean invalidateUserClaims(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        UserClaimCache userClaimCache = UserClaimCache.getInstance();
+        if (!isEnable() || !userClaimCache.isEnabled()) {
+            return true;
+        }
+        userClaimCache.invalidate(userStoreManager.getTenantId(),
+                NotificationUtil.getUserStoreDomainName(userStoreManager), UserCoreUtil.removeDomainFromName(userName));
+        return true;
+    }
+}
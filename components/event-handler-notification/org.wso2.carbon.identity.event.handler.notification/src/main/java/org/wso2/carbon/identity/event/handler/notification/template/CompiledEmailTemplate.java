@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
+
+/**
+ * Compiled subject, body and footer of an email template together with the placeholder manifest of the whole
+ * template. Compiled email templates are kept in the {@link CompiledTemplateCache}, so that the manifest is built
+ * once per template content and not on every notification sent with the template.
+ */
+public final class CompiledEmailTemplate {
+
+    private final CompiledTemplate subject;
+    private final CompiledTemplate body;
+    private final CompiledTemplate footer;
+    private final PlaceholderManifest placeholderManifest;
+
+    CompiledEmailTemplate(CompiledTemplate subject, CompiledTemplate body, CompiledTemplate footer) {
+
+        this.subject = subject;
+        this.body = body;
+        this.footer = footer;
+
+        PlaceholderManifest.Builder builder = new PlaceholderManifest.Builder();
+        for (CompiledTemplate part : new CompiledTemplate[]{subject, body, footer}) {
+            if (part != null) {
+                builder.addManifest(part.getPlaceholderManifest());
+            }
+        }
+        this.placeholderManifest = builder.build();
+    }
+
+    /**
+     * Get the compiled subject.
+     *
+     * @return Compiled subject, or null if the template does not have a subject.
+     */
+    public CompiledTemplate getSubject() {
+
+        return subject;
+    }
+
+    public CompiledTemplate getBody() {
+
+        return body;
+    }
+
+    /**
+     * Get the compiled footer.
+     *
+     * @return Compiled footer, or null if the template does not have a footer.
+     */
+    public CompiledTemplate getFooter() {
+
+        return footer;
+    }
+
+    /**
+     * Get the placeholder manifest of the subject, body and footer.
+     *
+     * @return Placeholder manifest of the template.
+     */
+    public PlaceholderManifest getPlaceholderManifest() {
+
+        return placeholderManifest;
+    }
+}
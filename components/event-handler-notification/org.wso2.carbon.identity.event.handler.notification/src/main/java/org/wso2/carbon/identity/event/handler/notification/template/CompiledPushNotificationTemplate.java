@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precompiled form of a {@link NotificationConstants.PushNotificationTemplate}. All the push notification templates
+ * are compiled once when the class is loaded, together with the event property keys of their placeholders, so that
+ * building a push notification does not parse or search templates per event.
+ */
+public final class CompiledPushNotificationTemplate {
+
+    private static final Map<String, CompiledPushNotificationTemplate> TEMPLATES_BY_SCENARIO;
+
+    static {
+        Map<String, CompiledPushNotificationTemplate> templates = new HashMap<>();
+        for (NotificationConstants.PushNotificationTemplate template :
+                NotificationConstants.PushNotificationTemplate.values()) {
+            // The first template defined for a scenario is used.
+            if (!templates.containsKey(template.getScenario())) {
+                templates.put(template.getScenario(), new CompiledPushNotificationTemplate(template));
+            }
+        }
+        TEMPLATES_BY_SCENARIO = Collections.unmodifiableMap(templates);
+    }
+
+    private final String scenario;
+    private final CompiledTemplate title;
+    private final CompiledTemplate body;
+    private final String[] placeholders;
+    private final String[] eventPropertyKeys;
+    private final String invalidPlaceholder;
+
+    private CompiledPushNotificationTemplate(NotificationConstants.PushNotificationTemplate template) {
+
+        this.scenario = template.getScenario();
+        this.title = TemplateCompiler.compile(template.getTitle());
+        this.body = TemplateCompiler.compile(template.getBody());
+
+        Set<String> placeholderSet = new LinkedHashSet<>(title.getPlaceholders());
+        placeholderSet.addAll(body.getPlaceholders());
+
+        List<String> resolvablePlaceholders = new ArrayList<>();
+        List<String> propertyKeys = new ArrayList<>();
+        String invalid = null;
+        for (String placeholder : placeholderSet) {
+            NotificationConstants.PushNotificationPlaceholder matchedKey = getPushNotificationPlaceholder(placeholder);
+            if (matchedKey == null) {
+                if (invalid == null) {
+                    invalid = placeholder;
+                }
+                continue;
+            }
+            resolvablePlaceholders.add(placeholder);
+            propertyKeys.add(matchedKey.getPlaceholder());
+        }
+        this.placeholders = resolvablePlaceholders.toArray(new String[0]);
+        this.eventPropertyKeys = propertyKeys.toArray(new String[0]);
+        this.invalidPlaceholder = invalid;
+    }
+
+    /**
+     * Get the compiled push notification template of the given scenario.
+     *
+     * @param scenario Push notification scenario.
+     * @return Compiled push notification template or null if there is no template for the scenario.
+     */
+    public static CompiledPushNotificationTemplate getTemplate(String scenario) {
+
+        if (scenario == null) {
+            return null;
+        }
+        return TEMPLATES_BY_SCENARIO.get(scenario);
+    }
+
+    public String getScenario() {
+
+        return scenario;
+    }
+
+    public CompiledTemplate getTitle() {
+
+        return title;
+    }
+
+    public CompiledTemplate getBody() {
+
+        return body;
+    }
+
+    /**
+     * Get a placeholder of the template which is not a supported push notification placeholder.
+     *
+     * @return Invalid placeholder or null if all the placeholders are valid.
+     */
+    public String getInvalidPlaceholder() {
+
+        return invalidPlaceholder;
+    }
+
+    /**
+     * Get the placeholder values of the template from the event properties.
+     *
+     * @param eventProperties Event properties.
+     * @return Map of placeholder values.
+     */
+    public Map<String, String> getPlaceholderValues(Map<String, Object> eventProperties) {
+
+        Map<String, String> placeholderValues = new HashMap<>((int) (placeholders.length / 0.75f) + 2);
+        for (int i = 0; i < placeholders.length; i++) {
+            placeholderValues.put(placeholders[i], (String) eventProperties.get(eventPropertyKeys[i]));
+        }
+        return placeholderValues;
+    }
+
+    private static NotificationConstants.PushNotificationPlaceholder getPushNotificationPlaceholder(
+            String placeholder) {
+
+        for (NotificationConstants.PushNotificationPlaceholder key :
+                NotificationConstants.PushNotificationPlaceholder.values()) {
+            if (key.getPlaceholder().equals(placeholder)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
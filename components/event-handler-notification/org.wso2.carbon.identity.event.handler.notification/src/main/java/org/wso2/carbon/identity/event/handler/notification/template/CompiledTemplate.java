@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
+import org.wso2.carbon.email.mgt.util.TemplatePlaceholderAnalyzer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, pre-parsed form of a notification template content. The content is split once into literal text,
+ * {{key}} placeholders and {{url:key}} placeholders, so that rendering is a single pass over the segments instead of
+ * a regex replacement per placeholder value.
+ * <p>
+ * Unlike the regex replacement, placeholders are only taken from the template content: a placeholder in a value is
+ * not replaced again, and a placeholder key is matched as it is, even if it contains regex metacharacters.
+ */
+public final class CompiledTemplate implements Serializable {
+
+    private static final long serialVersionUID = -7731540275385392118L;
+
+    static final String URL_PLACEHOLDER_PREFIX = "url:";
+
+    private final String content;
+    private final TemplateSegment[] segments;
+    private final Set<String> placeholders;
+    private final int literalLength;
+    private volatile String contentHash;
+    private transient volatile PlaceholderManifest placeholderManifest;
+
+    CompiledTemplate(String content, List<TemplateSegment> segments) {
+
+        this.content = content;
+        this.segments = segments.toArray(new TemplateSegment[0]);
+
+        Set<String> placeholderSet = new LinkedHashSet<>();
+        int length = 0;
+        for (TemplateSegment segment : this.segments) {
+            switch (segment.getType()) {
+                case LITERAL:
+                    length += segment.getText().length();
+                    break;
+                case PLACEHOLDER:
+                    placeholderSet.add(segment.getKey());
+                    break;
+                case URL_ENCODED_PLACEHOLDER:
+                    placeholderSet.add(URL_PLACEHOLDER_PREFIX + segment.getKey());
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.placeholders = Collections.unmodifiableSet(placeholderSet);
+        this.literalLength = length;
+    }
+
+    /**
+     * Get the original template content.
+     *
+     * @return Template content.
+     */
+    public String getContent() {
+
+        return content;
+    }
+
+    /**
+     * Get the hash of the template content, which identifies the template in the notification caches.
+     *
+     * @return Content hash returned by {@link CompiledTemplateCache#getContentHash(String)}.
+     */
+    public String getContentHash() {
+
+        String hash = contentHash;
+        if (hash == null) {
+            hash = CompiledTemplateCache.getContentHash(content);
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    void setContentHash(String contentHash) {
+
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Get the distinct placeholders of the template in the order they first appear. URL encoded placeholders are
+     * returned with the "url:" prefix, eg: url:user-name.
+     *
+     * @return Unmodifiable set of placeholders.
+     */
+    public Set<String> getPlaceholders() {
+
+        return placeholders;
+    }
+
+    /**
+     * Get the placeholder manifest of the template. The manifest is built from the placeholders of the compiled
+     * template once per compiled template, hence it is shared by every notification sent with a cached template.
+     *
+     * @return Placeholder manifest of the template.
+     */
+    public PlaceholderManifest getPlaceholderManifest() {
+
+        PlaceholderManifest manifest = placeholderManifest;
+        if (manifest == null) {
+            manifest = TemplatePlaceholderAnalyzer.analyze(placeholders);
+            placeholderManifest = manifest;
+        }
+        return manifest;
+    }
+
+    /**
+     * Render the template with the given placeholder values. Placeholders without a value are kept as they are.
+     *
+     * @param placeholderValues Placeholder values.
+     * @return Rendered content.
+     */
+    public String render(Map<String, String> placeholderValues) {
+
+        if (placeholders.isEmpty()) {
+            return content;
+        }
+        // The builder is sized for the rendered content, hence it is not grown while rendering and no buffer is
+        // retained by the rendering threads.
+        StringBuilder builder = new StringBuilder(estimateRenderedLength(placeholderValues));
+        renderTo(builder, placeholderValues);
+        return builder.toString();
+    }
+
+    /**
+     * Render the template with the given placeholder values into the given builder.
+     *
+     * @param builder           Builder to append the rendered content.
+     * @param placeholderValues Placeholder values.
+     */
+    public void renderTo(StringBuilder builder, Map<String, String> placeholderValues) {
+
+        for (TemplateSegment segment : segments) {
+            switch (segment.getType()) {
+                case LITERAL:
+                    builder.append(segment.getText());
+                    break;
+                case PLACEHOLDER:
+                    appendPlaceholder(builder, segment, placeholderValues);
+                    break;
+                case URL_ENCODED_PLACEHOLDER:
+                    appendUrlEncodedPlaceholder(builder, segment, placeholderValues);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Create a template where the given placeholders are replaced with their values and the rest of the placeholders
+     * are kept to be rendered later. Rendering the returned template with the remaining placeholder values gives the
+     * same output as rendering this template with all the values.
+     *
+     * @param boundValues Values of the placeholders to be replaced, keyed by the placeholder key without the "url:"
+     *                    prefix.
+     * @return Partially rendered template.
+     */
+    public CompiledTemplate bind(Map<String, String> boundValues) {
+
+        List<TemplateSegment> boundSegments = new ArrayList<>();
+        StringBuilder boundContent = new StringBuilder(estimateRenderedLength(boundValues));
+        StringBuilder literal = new StringBuilder();
+        for (TemplateSegment segment : segments) {
+            if (segment.getType() == TemplateSegment.Type.LITERAL) {
+                literal.append(segment.getText());
+                continue;
+            }
+            String value = boundValues.get(segment.getKey());
+            if (value == null) {
+                addUnboundPlaceholder(boundSegments, boundContent, literal, segment);
+            } else if (segment.getType() == TemplateSegment.Type.URL_ENCODED_PLACEHOLDER) {
+                UrlEncoder.encode(literal, value);
+            } else {
+                literal.append(value);
+            }
+        }
+        if (literal.length() > 0) {
+            boundSegments.add(TemplateSegment.literal(literal.toString()));
+            boundContent.append(literal);
+        }
+        return new CompiledTemplate(boundContent.toString(), boundSegments);
+    }
+
+    private static void addUnboundPlaceholder(List<TemplateSegment> boundSegments, StringBuilder boundContent,
+                                              StringBuilder literal, TemplateSegment placeholder) {
+
+        if (literal.length() > 0) {
+            boundSegments.add(TemplateSegment.literal(literal.toString()));
+            boundContent.append(literal);
+            literal.setLength(0);
+        }
+        boundSegments.add(placeholder);
+        boundContent.append(placeholder.getText());
+    }
+
+    private static void appendPlaceholder(StringBuilder builder, TemplateSegment segment,
+                                          Map<String, String> placeholderValues) {
+
+        String value = placeholderValues.get(segment.getKey());
+        builder.append(value != null ? value : segment.getText());
+    }
+
+    private static void appendUrlEncodedPlaceholder(StringBuilder builder, TemplateSegment segment,
+                                                    Map<String, String> placeholderValues) {
+
+        String value = placeholderValues.get(segment.getKey());
+        if (value != null) {
+            UrlEncoder.encode(builder, value);
+            return;
+        }
+        // A value set against the complete "url:key" placeholder is used as it is.
+        value = placeholderValues.get(URL_PLACEHOLDER_PREFIX + segment.getKey());
+        builder.append(value != null ? value : segment.getText());
+    }
+
+    private int estimateRenderedLength(Map<String, String> placeholderValues) {
+
+        int length = literalLength;
+        for (TemplateSegment segment : segments) {
+            if (segment.getType() != TemplateSegment.Type.LITERAL) {
+                String value = placeholderValues.get(segment.getKey());
+                length += value != null ? value.length() : segment.getText().length();
+            }
+        }
+        return length;
+    }
+}
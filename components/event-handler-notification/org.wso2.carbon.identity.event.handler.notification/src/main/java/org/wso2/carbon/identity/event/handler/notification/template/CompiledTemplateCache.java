@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.cache.AbstractNotificationCache;
+import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
+
+/**
+ * Cache of compiled notification templates shared by all the notification handlers. Entries are keyed by the SHA-256
+ * hash of the template content, so that any template with the same content is parsed only once, no matter which
+ * tenant, locale or handler it belongs to, and the cache does not hold a second copy of the content as the key.
+ * Since the content of a compiled template never changes, entries are added in the scope of the super tenant and
+ * are never invalidated.
+ * <p>
+ * Hashing a large template on every lookup costs more than the lookup itself, hence the templates compiled on this
+ * node are also kept in a bounded local map keyed by the content. A lookup of the same content string is then
+ * served by its cached string hash code and an identity check, and a lookup of an equal string by a content
+ * comparison, without hashing the content again. The compiled email templates, which carry the placeholder manifest
+ * of their subject, body and footer, are kept in the same way.
+ */
+public class CompiledTemplateCache extends AbstractNotificationCache<String, CompiledTemplate> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 3600;
+
+    private static final String CACHE_NAME = "NotificationCompiledTemplateCache";
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    private static final int MAX_LOCAL_ENTRIES = 1000;
+    private static final CompiledTemplateCache instance = new CompiledTemplateCache();
+
+    private final Map<String, CompiledTemplate> localTemplates = new ConcurrentHashMap<>();
+    private final Map<EmailTemplateContent, CompiledEmailTemplate> localEmailTemplates = new ConcurrentHashMap<>();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private CompiledTemplateCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static CompiledTemplateCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the compiled form of the given template content. The content is compiled and cached if it is not already
+     * available in the cache.
+     *
+     * @param content Template content.
+     * @return Compiled template.
+     */
+    public CompiledTemplate getCompiledTemplate(String content) {
+
+        if (content == null) {
+            content = "";
+        }
+        if (!isEnabled()) {
+            return TemplateCompiler.compile(content);
+        }
+        CompiledTemplate compiledTemplate = localTemplates.get(content);
+        if (compiledTemplate != null) {
+            countHit();
+            return compiledTemplate;
+        }
+        compiledTemplate = getCompiledTemplate(getContentHash(content), content);
+        // The content of the compiled template is used as the key, so that the map does not keep another copy.
+        addLocalValue(localTemplates, compiledTemplate.getContent(), compiledTemplate);
+        return compiledTemplate;
+    }
+
+    /**
+     * Get the compiled subject, body and footer of the given email template together with their placeholder
+     * manifest. The manifest is built once per template content on this node.
+     *
+     * @param emailTemplate {@link EmailTemplate}
+     * @return Compiled email template.
+     */
+    public CompiledEmailTemplate getCompiledEmailTemplate(EmailTemplate emailTemplate) {
+
+        if (!isEnabled()) {
+            return compileEmailTemplate(emailTemplate);
+        }
+        EmailTemplateContent key = new EmailTemplateContent(emailTemplate);
+        CompiledEmailTemplate compiledEmailTemplate = localEmailTemplates.get(key);
+        if (compiledEmailTemplate == null) {
+            compiledEmailTemplate = compileEmailTemplate(emailTemplate);
+            addLocalValue(localEmailTemplates, key, compiledEmailTemplate);
+        }
+        return compiledEmailTemplate;
+    }
+
+    /**
+     * Get the compiled form of the given template content, whose content hash is already calculated.
+     *
+     * @param contentHash Hash of the template content returned by {@link #getContentHash(String)}.
+     * @param content     Template content.
+     * @return Compiled template.
+     */
+    public CompiledTemplate getCompiledTemplate(String contentHash, String content) {
+
+        CompiledTemplate compiledTemplate = getValue(contentHash, SUPER_TENANT_ID);
+        if (compiledTemplate != null) {
+            return compiledTemplate;
+        }
+        compiledTemplate = TemplateCompiler.compile(content);
+        compiledTemplate.setContentHash(contentHash);
+        addValue(contentHash, compiledTemplate, SUPER_TENANT_ID);
+        return compiledTemplate;
+    }
+
+    /**
+     * Get the number of compiled templates and compiled email templates evicted from the local maps of this node to
+     * keep them within their capacity.
+     *
+     * @return Number of evicted entries.
+     */
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    /**
+     * Get the hash of the given template content, which identifies the content in the notification caches.
+     *
+     * @param content Template content.
+     * @return Base64 encoded SHA-256 hash of the content.
+     */
+    public static String getContentHash(String content) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            byte[] hash = messageDigest.digest((content == null ? "" : content).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw NotificationRuntimeException.error("Error while hashing the notification template content.", e);
+        }
+    }
+
+    private CompiledEmailTemplate compileEmailTemplate(EmailTemplate emailTemplate) {
+
+        String subject = emailTemplate.getSubject();
+        String footer = emailTemplate.getFooter();
+        return new CompiledEmailTemplate(StringUtils.isEmpty(subject) ? null : getCompiledTemplate(subject),
+                getCompiledTemplate(emailTemplate.getBody()),
+                StringUtils.isEmpty(footer) ? null : getCompiledTemplate(footer));
+    }
+
+    private <K, V> void addLocalValue(Map<K, V> localValues, K key, V value) {
+
+        if (localValues.size() >= MAX_LOCAL_ENTRIES) {
+            Iterator<K> iterator = localValues.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+        localValues.put(key, value);
+    }
+
+    /**
+     * Subject, body and footer of an email template, which identify its compiled form on this node.
+     */
+    private static final class EmailTemplateContent {
+
+        private final String subject;
+        private final String body;
+        private final String footer;
+
+        private EmailTemplateContent(EmailTemplate emailTemplate) {
+
+            this.subject = StringUtils.defaultString(emailTemplate.getSubject());
+            this.body = StringUtils.defaultString(emailTemplate.getBody());
+            this.footer = StringUtils.defaultString(emailTemplate.getFooter());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EmailTemplateContent)) {
+                return false;
+            }
+            EmailTemplateContent that = (EmailTemplateContent) o;
+            return body.equals(that.body) && subject.equals(that.subject) && footer.equals(that.footer);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(subject, body, footer);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.event.handler.notification.cache.AbstractNotificationCache;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cache of partially rendered notification templates. When the same template is sent to many recipients of a
+ * tenant, the placeholders which do not depend on the recipient (eg: branding, server URLs) are rendered once and
+ * only the recipient dependent placeholders are rendered per notification.
+ * <p>
+ * Entries are added in the scope of the tenant and keyed by the application, locale, content hash of the template,
+ * the shared placeholders rendered into the template and the version of their values. Since a branding or
+ * configuration change changes the version, a changed value is never served from the cache and the values are not
+ * compared on a lookup. Entries of a tenant are removed when the tenant or its organization is changed, and expire
+ * after the configured time to live.
+ */
+public class RenderedTemplateCache extends AbstractNotificationCache<RenderedTemplateCache.RenderedTemplateKey,
+        CompiledTemplate> {
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    private static final String CACHE_NAME = "NotificationRenderedTemplateCache";
+    private static final RenderedTemplateCache instance = new RenderedTemplateCache();
+
+    private RenderedTemplateCache() {
+
+        super(CACHE_NAME, DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    public static RenderedTemplateCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Render the given compiled template. The given shared placeholders are rendered from the cached partially
+     * rendered template and the rest of the placeholders are rendered with the given placeholder values.
+     *
+     * @param tenantId           Tenant ID.
+     * @param applicationUuid    Application UUID, or null for organization level templates.
+     * @param locale             Locale of the template.
+     * @param compiledTemplate   Compiled template.
+     * @param placeholderValues  Placeholder values.
+     * @param sharedPlaceholders Placeholders whose values do not depend on the recipient.
+     * @return Rendered content.
+     */
+    public String render(int tenantId, String applicationUuid, String locale, CompiledTemplate compiledTemplate,
+                         Map<String, String> placeholderValues, SharedPlaceholders sharedPlaceholders) {
+
+        if (!isEnabled()) {
+            return compiledTemplate.render(placeholderValues);
+        }
+        Set<String> boundPlaceholders = getBoundPlaceholders(compiledTemplate, placeholderValues,
+                sharedPlaceholders);
+        if (boundPlaceholders.isEmpty()) {
+            return compiledTemplate.render(placeholderValues);
+        }
+        RenderedTemplateKey key = new RenderedTemplateKey(applicationUuid, locale, compiledTemplate.getContentHash(),
+                String.join(",", boundPlaceholders), sharedPlaceholders.getVersion());
+        CompiledTemplate boundTemplate = getValue(key, tenantId);
+        if (boundTemplate == null) {
+            Map<String, String> boundValues = new HashMap<>();
+            for (String placeholder : boundPlaceholders) {
+                boundValues.put(placeholder, placeholderValues.get(placeholder));
+            }
+            boundTemplate = compiledTemplate.bind(boundValues);
+            addValue(key, boundTemplate, tenantId);
+        }
+        return boundTemplate.render(placeholderValues);
+    }
+
+    /**
+     * Remove the partially rendered templates of the given tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clear(tenantId);
+    }
+
+    private static Set<String> getBoundPlaceholders(CompiledTemplate compiledTemplate,
+                                                    Map<String, String> placeholderValues,
+                                                    SharedPlaceholders sharedPlaceholders) {
+
+        // Sorted, so that the same placeholders give the same cache key.
+        Set<String> boundPlaceholders = new TreeSet<>();
+        for (String placeholder : compiledTemplate.getPlaceholders()) {
+            String key = placeholder.startsWith(CompiledTemplate.URL_PLACEHOLDER_PREFIX) ?
+                    placeholder.substring(CompiledTemplate.URL_PLACEHOLDER_PREFIX.length()) : placeholder;
+            if (sharedPlaceholders.contains(key) && placeholderValues.get(key) != null) {
+                boundPlaceholders.add(key);
+            }
+        }
+        return boundPlaceholders;
+    }
+
+    /**
+     * Cache key of a partially rendered template.
+     */
+    static final class RenderedTemplateKey implements Serializable {
+
+        private static final long serialVersionUID = -2187440512877340961L;
+
+        private final String applicationUuid;
+        private final String locale;
+        private final String contentHash;
+        private final String boundPlaceholders;
+        private final String version;
+
+        private RenderedTemplateKey(String applicationUuid, String locale, String contentHash,
+                                    String boundPlaceholders, String version) {
+
+            this.applicationUuid = StringUtils.defaultString(applicationUuid);
+            this.locale = StringUtils.defaultString(locale);
+            this.contentHash = contentHash;
+            this.boundPlaceholders = boundPlaceholders;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RenderedTemplateKey)) {
+                return false;
+            }
+            RenderedTemplateKey that = (RenderedTemplateKey) o;
+            return applicationUuid.equals(that.applicationUuid) && locale.equals(that.locale) &&
+                    contentHash.equals(that.contentHash) && boundPlaceholders.equals(that.boundPlaceholders) &&
+                    version.equals(that.version);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(applicationUuid, locale, contentHash, boundPlaceholders, version);
+        }
+    }
+}
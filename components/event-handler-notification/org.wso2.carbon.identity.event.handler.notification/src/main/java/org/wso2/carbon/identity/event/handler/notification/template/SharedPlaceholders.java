@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Placeholders of a notification whose values do not depend on the recipient, together with the versions of the
+ * sources of their values. The values are identified by the versions, so that the partially rendered templates in
+ * the {@link RenderedTemplateCache} are looked up without comparing the values.
+ */
+public final class SharedPlaceholders implements Serializable {
+
+    private static final long serialVersionUID = 3370526164413716946L;
+
+    private final Set<String> placeholders = new HashSet<>();
+    private String brandingVersion = "";
+    private String configurationVersion = "";
+    private int year;
+
+    /**
+     * Add a placeholder whose value does not depend on the recipient.
+     *
+     * @param placeholder Placeholder key.
+     */
+    public void add(String placeholder) {
+
+        placeholders.add(placeholder);
+    }
+
+    public boolean contains(String placeholder) {
+
+        return placeholders.contains(placeholder);
+    }
+
+    public Set<String> getPlaceholders() {
+
+        return Collections.unmodifiableSet(placeholders);
+    }
+
+    /**
+     * Set the version of the branding preferences the branding placeholder values are resolved from.
+     *
+     * @param brandingVersion Branding preference version, or null if branding preferences are not used.
+     */
+    public void setBrandingVersion(String brandingVersion) {
+
+        this.brandingVersion = brandingVersion == null ? "" : brandingVersion;
+    }
+
+    /**
+     * Set the version of the configurations the config file placeholder values and branding fallbacks are read
+     * from.
+     *
+     * @param configurationVersion Configuration version, or null if the configurations are not loaded.
+     */
+    public void setConfigurationVersion(String configurationVersion) {
+
+        this.configurationVersion = configurationVersion == null ? "" : configurationVersion;
+    }
+
+    public void setYear(int year) {
+
+        this.year = year;
+    }
+
+    /**
+     * Get the version of the shared placeholder values, which changes when any of the sources of the values change.
+     *
+     * @return Version of the shared placeholder values.
+     */
+    public String getVersion() {
+
+        return brandingVersion + ":" + configurationVersion + ":" + year;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses notification template content into a {@link CompiledTemplate}.
+ */
+public class TemplateCompiler {
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String PLACEHOLDER_END = "}}";
+
+    private TemplateCompiler() {
+
+    }
+
+    /**
+     * Compile the given template content.
+     *
+     * @param content Template content.
+     * @return Compiled template.
+     */
+    public static CompiledTemplate compile(String content) {
+
+        if (content == null) {
+            content = "";
+        }
+        List<TemplateSegment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int cursor = 0;
+        while (cursor < content.length()) {
+            int start = content.indexOf(PLACEHOLDER_START, cursor);
+            if (start < 0) {
+                break;
+            }
+            int end = content.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            // In a value like "{{{key}}" the placeholder is the innermost "{{key}}".
+            start = content.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+            String key = content.substring(start + PLACEHOLDER_START.length(), end);
+            cursor = end + PLACEHOLDER_END.length();
+            if (containsLineTerminator(key)) {
+                // Placeholders can not span multiple lines.
+                continue;
+            }
+
+            if (start > literalStart) {
+                segments.add(TemplateSegment.literal(content.substring(literalStart, start)));
+            }
+            String rawText = content.substring(start, cursor);
+            if (key.startsWith(CompiledTemplate.URL_PLACEHOLDER_PREFIX)) {
+                segments.add(TemplateSegment.urlEncodedPlaceholder(rawText,
+                        key.substring(CompiledTemplate.URL_PLACEHOLDER_PREFIX.length())));
+            } else {
+                segments.add(TemplateSegment.placeholder(rawText, key));
+            }
+            literalStart = cursor;
+        }
+        if (literalStart < content.length()) {
+            segments.add(TemplateSegment.literal(content.substring(literalStart)));
+        }
+        return new CompiledTemplate(content, segments);
+    }
+
+    private static boolean containsLineTerminator(String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
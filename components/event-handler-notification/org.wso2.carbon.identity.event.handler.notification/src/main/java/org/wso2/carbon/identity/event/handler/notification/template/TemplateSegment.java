@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import java.io.Serializable;
+
+/**
+ * A single parsed part of a {@link CompiledTemplate}.
+ */
+final class TemplateSegment implements Serializable {
+
+    private static final long serialVersionUID = 5203718264927715408L;
+
+    /**
+     * Kinds of template segments.
+     */
+    enum Type {
+
+        /**
+         * Static text copied to the output as it is.
+         */
+        LITERAL,
+
+        /**
+         * A placeholder in the format of {{key}}.
+         */
+        PLACEHOLDER,
+
+        /**
+         * A placeholder in the format of {{url:key}} whose value should be URL encoded.
+         */
+        URL_ENCODED_PLACEHOLDER
+    }
+
+    private final Type type;
+    private final String text;
+    private final String key;
+
+    private TemplateSegment(Type type, String text, String key) {
+
+        this.type = type;
+        this.text = text;
+        this.key = key;
+    }
+
+    static TemplateSegment literal(String text) {
+
+        return new TemplateSegment(Type.LITERAL, text, null);
+    }
+
+    static TemplateSegment placeholder(String rawText, String key) {
+
+        return new TemplateSegment(Type.PLACEHOLDER, rawText, key);
+    }
+
+    static TemplateSegment urlEncodedPlaceholder(String rawText, String key) {
+
+        return new TemplateSegment(Type.URL_ENCODED_PLACEHOLDER, rawText, key);
+    }
+
+    Type getType() {
+
+        return type;
+    }
+
+    /**
+     * Get the text of the segment. For placeholders this is the raw placeholder text, eg: {{url:user-name}}, which
+     * is written to the output when no value is available for the placeholder.
+     *
+     * @return Segment text.
+     */
+    String getText() {
+
+        return text;
+    }
+
+    /**
+     * Get the placeholder key. For {{url:key}} placeholders the "url:" prefix is not included.
+     *
+     * @return Placeholder key or null for literal segments.
+     */
+    String getKey() {
+
+        return key;
+    }
+}
@@ -24,19 +24,25 @@ import org.apache.axiom.om.OMElement;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.databridge.commons.StreamDefinition;
 import org.wso2.carbon.databridge.commons.exception.MalformedStreamDefinitionException;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
+import org.wso2.carbon.email.mgt.constants.TemplateMgtConstants.TemplatePlaceholders;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
+import org.wso2.carbon.event.publisher.core.config.OutputMapping;
+import org.wso2.carbon.event.publisher.core.config.mapping.TextOutputMapping;
 import org.wso2.carbon.event.publisher.core.exception.EventPublisherConfigurationException;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.event.stream.core.exception.EventStreamConfigurationException;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.branding.preference.management.core.BrandingPreferenceManager;
 import org.wso2.carbon.identity.branding.preference.management.core.BrandingPreferenceManagerImpl;
@@ -46,6 +52,7 @@ import org.wso2.carbon.identity.branding.preference.management.core.model.Brandi
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
 import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.context.model.Flow;
@@ -56,9 +63,22 @@ import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.cache.ApplicationUuidCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceSnapshot;
+import org.wso2.carbon.identity.event.handler.notification.cache.NotificationUrlProfile;
+import org.wso2.carbon.identity.event.handler.notification.cache.NotificationUrlProfileCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationIdCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationNameCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.PublisherMappedFieldsCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserClaimCache;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledEmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.template.RenderedTemplateCache;
+import org.wso2.carbon.identity.event.handler.notification.template.SharedPlaceholders;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -71,19 +91,26 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -111,15 +138,19 @@ import static org.wso2.carbon.identity.event.handler.notification.NotificationCo
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.REGISTRATION_FLOW;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.TENANT_DOMAIN;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.INVALID_TENANT_ID;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 public class NotificationUtil {
 
     private static final Log log = LogFactory.getLog(NotificationUtil.class);
 
-    private static final String USER_IDENTITY_CLAIMS = "UserIdentityClaims";
     private static final String SERVICE_PROVIDER_NAME = "serviceProviderName";
     private static final String SERVICE_PROVIDER_UUID = "serviceProviderUUID";
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{(.*?)\\}\\}");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final BrandingPreferenceSnapshot NO_BRANDING_PREFERENCE_SNAPSHOT =
+            new BrandingPreferenceSnapshot(null);
     public static final String CALLER_PATH_PLACEHOLDER = "caller.path";
     public static final String MAGIC_LINK = "magicLink";
     public static final String CALLBACK_URL = "callbackUrl";
@@ -128,17 +159,26 @@ public class NotificationUtil {
 
     public static Map<String, String> getUserClaimValues(String userName, UserStoreManager userStoreManager) {
 
-        Claim[] userClaims;
+        return getUserClaimValues(userName, userStoreManager, null);
+    }
+
+    /**
+     * Get the given claim values of the user from the default profile, together with the user identity claims of the
+     * current thread.
+     *
+     * @param userName         Username.
+     * @param userStoreManager User store manager of the user.
+     * @param claimURIs        Claim URIs to be retrieved, or null to retrieve all the claims of the user.
+     * @return Claim values of the user.
+     */
+    public static Map<String, String> getUserClaimValues(String userName, UserStoreManager userStoreManager,
+                                                         String[] claimURIs) {
+
         Map<String, String> claimsMap = new HashMap<String, String>();
         try {
-            userClaims = userStoreManager.getUserClaimValues(userName, UserCoreConstants.DEFAULT_PROFILE);
-            if (userClaims != null) {
-                for (Claim userClaim : userClaims) {
-                    claimsMap.put(userClaim.getClaimUri(), userClaim.getValue());
-                }
-            }
-            UserIdentityClaim userIdentityClaims =
-                    (UserIdentityClaim) IdentityUtil.threadLocalProperties.get().get(USER_IDENTITY_CLAIMS);
+            claimsMap.putAll(getUserStoreClaimValues(userName, userStoreManager, claimURIs));
+            UserIdentityClaim userIdentityClaims = (UserIdentityClaim) IdentityUtil.threadLocalProperties.get()
+                    .get(NotificationConstants.USER_IDENTITY_CLAIMS);
             Map<String, String> userIdentityDataMap;
             if (userIdentityClaims == null) {
                 userIdentityDataMap = new HashMap<>();
@@ -166,26 +206,283 @@ public class NotificationUtil {
         return claimsMap;
     }
 
+    /**
+     * Get the given claim values of the user from the user store. Claim values are served from the user claim cache
+     * when it is enabled.
+     */
+    private static Map<String, String> getUserStoreClaimValues(String userName, UserStoreManager userStoreManager,
+                                                               String[] claimURIs) throws UserStoreException {
+
+        UserClaimCache userClaimCache = UserClaimCache.getInstance();
+        int tenantId = 0;
+        String userStoreDomain = null;
+        String cachedUserName = null;
+        if (userClaimCache.isEnabled()) {
+            tenantId = userStoreManager.getTenantId();
+            userStoreDomain = getUserStoreDomainName(userStoreManager);
+            cachedUserName = UserCoreUtil.removeDomainFromName(userName);
+            Map<String, String> cachedClaimValues =
+                    userClaimCache.getClaimValues(tenantId, userStoreDomain, cachedUserName, claimURIs);
+            if (cachedClaimValues != null) {
+                return cachedClaimValues;
+            }
+        }
+
+        Map<String, String> claimsMap = new HashMap<>();
+        if (claimURIs == null) {
+            Claim[] userClaims = userStoreManager.getUserClaimValues(userName, UserCoreConstants.DEFAULT_PROFILE);
+            if (userClaims != null) {
+                for (Claim userClaim : userClaims) {
+                    claimsMap.put(userClaim.getClaimUri(), userClaim.getValue());
+                }
+            }
+        } else if (claimURIs.length > 0) {
+            Map<String, String> userClaimValues =
+                    userStoreManager.getUserClaimValues(userName, claimURIs, UserCoreConstants.DEFAULT_PROFILE);
+            if (userClaimValues != null) {
+                claimsMap.putAll(userClaimValues);
+            }
+        }
+        if (userStoreDomain != null) {
+            userClaimCache.addClaimValues(tenantId, userStoreDomain, cachedUserName, claimURIs, claimsMap);
+        }
+        return claimsMap;
+    }
+
     public static Map<String, String> getUserClaimValues(String userName, String domainName, String tenantDomain)
             throws IdentityEventException {
 
-        RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
-        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        UserStoreManager userStoreManager = null;
+        return getUserClaimValues(userName, domainName, tenantDomain, null);
+    }
+
+    /**
+     * Get the given claim values of the user from the default profile, together with the user identity claims of the
+     * current thread.
+     *
+     * @param userName     Username.
+     * @param domainName   User store domain of the user.
+     * @param tenantDomain Tenant domain of the user.
+     * @param claimURIs    Claim URIs to be retrieved, or null to retrieve all the claims of the user.
+     * @return Claim values of the user.
+     * @throws IdentityEventException Error while retrieving the user store manager.
+     */
+    public static Map<String, String> getUserClaimValues(String userName, String domainName, String tenantDomain,
+                                                         String[] claimURIs) throws IdentityEventException {
+
+        UserStoreManager userStoreManager;
         try {
-            userStoreManager = realmService.getTenantUserRealm(tenantId).getUserStoreManager();
-            if (userStoreManager == null) {
-                String message = "Error occurred while retrieving userStoreManager for tenant " + tenantDomain;
-                throw new IdentityEventException(message);
-            } else if (userStoreManager instanceof AbstractUserStoreManager) {
-                userStoreManager = ((AbstractUserStoreManager) userStoreManager).getSecondaryUserStoreManager(domainName);
-            }
+            userStoreManager = getUserStoreManager(domainName, tenantDomain);
         } catch (UserStoreException e) {
             String message = "Error occurred while retrieving user claim values for user " + userName + " in user " +
                     "store " + domainName + " in tenant " + tenantDomain;
             throw new IdentityEventException(message, e);
         }
-        return getUserClaimValues(userName, userStoreManager);
+        return getUserClaimValues(userName, userStoreManager, claimURIs);
+    }
+
+    private static UserStoreManager getUserStoreManager(String domainName, String tenantDomain)
+            throws UserStoreException, IdentityEventException {
+
+        RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        UserStoreManager userStoreManager = realmService.getTenantUserRealm(tenantId).getUserStoreManager();
+        if (userStoreManager == null) {
+            String message = "Error occurred while retrieving userStoreManager for tenant " + tenantDomain;
+            throw new IdentityEventException(message);
+        } else if (userStoreManager instanceof AbstractUserStoreManager) {
+            userStoreManager = ((AbstractUserStoreManager) userStoreManager).getSecondaryUserStoreManager(domainName);
+        }
+        return userStoreManager;
+    }
+
+    /**
+     * Retrieve the user claim values of the users of the given notification events in batches, instead of
+     * retrieving the claims of each user when the notification is built. Events are grouped by the user store manager
+     * and the user store domain of the user, and the recipient claims and the claims used by the organization level
+     * templates of the events in the default locale are retrieved with one user store call per batch. Users are
+     * identified by their domain qualified names, hence users with the same name in different user stores are not
+     * mixed up. The retrieved claim values are added to the event properties, and are used when the notifications of
+     * the events are built. Claims of users which can not be retrieved in a batch are retrieved per user as before.
+     *
+     * @param events Notification events.
+     */
+    public static void prefetchUserClaimValues(List<Event> events) {
+
+        Map<org.wso2.carbon.user.core.UserStoreManager, Map<String, List<Event>>> eventsByUserStore =
+                new LinkedHashMap<>();
+        for (Event event : events) {
+            Map<String, Object> eventProperties = event.getEventProperties();
+            String username = (String) eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME);
+            if (StringUtils.isBlank(username) || Boolean.TRUE.equals(
+                    eventProperties.get(NotificationConstants.IS_FEDERATED_USER)) ||
+                    REGISTRATION_FLOW.equals(eventProperties.get(FLOW_TYPE))) {
+                continue;
+            }
+            UserStoreManager userStoreManager = (UserStoreManager)
+                    eventProperties.get(IdentityEventConstants.EventProperty.USER_STORE_MANAGER);
+            String userStoreDomainName = (String) eventProperties
+                    .get(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN);
+            String tenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+            try {
+                if (userStoreManager == null && StringUtils.isNotBlank(userStoreDomainName) &&
+                        StringUtils.isNotBlank(tenantDomain)) {
+                    userStoreManager = getUserStoreManager(userStoreDomainName, tenantDomain);
+                }
+            } catch (UserStoreException | IdentityEventException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while retrieving the user store manager of the user store: " +
+                            userStoreDomainName + " in tenant: " + tenantDomain + ". Claims are retrieved per user.",
+                            e);
+                }
+                continue;
+            }
+            if (userStoreManager instanceof org.wso2.carbon.user.core.UserStoreManager) {
+                String userDomain = getUserDomain(username, userStoreDomainName);
+                eventsByUserStore.computeIfAbsent((org.wso2.carbon.user.core.UserStoreManager) userStoreManager,
+                        key -> new LinkedHashMap<>()).computeIfAbsent(userDomain, key -> new ArrayList<>()).add(event);
+            }
+        }
+
+        int batchSize = NotificationHandlerDataHolder.getInstance().getUserClaimBatchSize();
+        for (Map.Entry<org.wso2.carbon.user.core.UserStoreManager, Map<String, List<Event>>> entry :
+                eventsByUserStore.entrySet()) {
+            org.wso2.carbon.user.core.UserStoreManager userStoreManager = entry.getKey();
+            for (Map.Entry<String, List<Event>> domainEntry : entry.getValue().entrySet()) {
+                List<Event> userStoreEvents = domainEntry.getValue();
+                String[] claimURIs = getPrefetchClaimURIs(userStoreEvents).toArray(new String[0]);
+                for (int start = 0; start < userStoreEvents.size(); start += batchSize) {
+                    prefetchUserClaimValues(userStoreManager, domainEntry.getKey(),
+                            userStoreEvents.subList(start, Math.min(start + batchSize, userStoreEvents.size())),
+                            claimURIs);
+                }
+            }
+        }
+    }
+
+    private static void prefetchUserClaimValues(org.wso2.carbon.user.core.UserStoreManager userStoreManager,
+                                                String userDomain, List<Event> events, String[] claimURIs) {
+
+        Set<String> userNames = new LinkedHashSet<>();
+        for (Event event : events) {
+            userNames.add(getDomainQualifiedUserName(
+                    (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME),
+                    userDomain));
+        }
+        Map<String, Map<String, String>> userClaimsByUserName = new HashMap<>();
+        try {
+            UserClaimSearchEntry[] userClaimSearchEntries = userStoreManager.getUsersClaimValues(
+                    userNames.toArray(new String[0]), claimURIs, UserCoreConstants.DEFAULT_PROFILE);
+            if (userClaimSearchEntries != null) {
+                for (UserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+                    Map<String, String> claims = userClaimSearchEntry.getClaims();
+                    // The user store may return the names without the domain, hence the names are qualified with the
+                    // domain of the batch before matching them with the events.
+                    userClaimsByUserName.put(getDomainQualifiedUserName(userClaimSearchEntry.getUserName(),
+                            userDomain), claims != null ? claims : Collections.emptyMap());
+                }
+            }
+        } catch (UserStoreException e) {
+            log.warn("Error occurred while retrieving the claim values of " + userNames.size() + " users in user " +
+                    "store " + userDomain + ". Claims are retrieved per user.", e);
+            return;
+        }
+        for (Event event : events) {
+            Map<String, String> userClaims = userClaimsByUserName.get(getDomainQualifiedUserName(
+                    (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME),
+                    userDomain));
+            if (userClaims != null) {
+                event.getEventProperties().put(NotificationConstants.PREFETCHED_USER_CLAIMS, userClaims);
+                event.getEventProperties().put(NotificationConstants.PREFETCHED_CLAIM_URIS, claimURIs);
+            }
+        }
+    }
+
+    /**
+     * Get the user store domain of the given user. The domain in the user name takes precedence over the user store
+     * domain of the event, and users without a domain belong to the primary user store.
+     */
+    private static String getUserDomain(String username, String userStoreDomainName) {
+
+        if (username.contains(UserCoreConstants.DOMAIN_SEPARATOR) || StringUtils.isBlank(userStoreDomainName)) {
+            return UserCoreUtil.extractDomainFromName(username);
+        }
+        return userStoreDomainName.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Get the name of the given user qualified with its user store domain, in the form returned by
+     * {@link UserCoreUtil#addDomainToName(String, String)}.
+     */
+    private static String getDomainQualifiedUserName(String username, String defaultDomain) {
+
+        String userDomain = username.contains(UserCoreConstants.DOMAIN_SEPARATOR) ?
+                UserCoreUtil.extractDomainFromName(username) : defaultDomain;
+        return UserCoreUtil.addDomainToName(UserCoreUtil.removeDomainFromName(username), userDomain);
+    }
+
+    /**
+     * Get the claim URIs to be retrieved for the users of the given events, which are the recipient claims and the
+     * user claims used by the organization level templates of the events in the default locale. Identity claims are
+     * retrieved per user, since they may not be returned for multiple users by the user store.
+     */
+    private static Set<String> getPrefetchClaimURIs(List<Event> events) {
+
+        Set<String> claimURIs = new LinkedHashSet<>(Arrays.asList(getRecipientClaimURIs()));
+        Set<String> templateTypes = new HashSet<>();
+        String locale = getNotificationLocale();
+        for (Event event : events) {
+            String templateType = (String) event.getEventProperties()
+                    .get(NotificationConstants.EmailNotification.EMAIL_TEMPLATE_TYPE);
+            String tenantDomain = (String) event.getEventProperties()
+                    .get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+            if (StringUtils.isBlank(templateType) || !templateTypes.add(templateType + ":" + tenantDomain)) {
+                continue;
+            }
+            try {
+                EmailTemplate emailTemplate = NotificationHandlerDataHolder.getInstance().getEmailTemplateManager()
+                        .getEmailTemplate(templateType, locale, tenantDomain);
+                for (String placeholder : getPlaceholderManifest(emailTemplate).getUserClaimPlaceholders()) {
+                    claimURIs.add(getUserClaimURI(placeholder));
+                }
+            } catch (I18nEmailMgtException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error when retrieving the email template: " + templateType + " for tenant: " +
+                            tenantDomain + " to find the claims used by the template.", e);
+                }
+            }
+        }
+        return claimURIs;
+    }
+
+    /**
+     * Get the URIs of the claims used by the user claim placeholders of the given template manifest.
+     *
+     * @param manifest Placeholder manifest of the template.
+     * @return Claim URIs used by the template.
+     */
+    public static Set<String> getTemplateClaimURIs(PlaceholderManifest manifest) {
+
+        Set<String> claimURIs = new HashSet<>();
+        for (String placeholder : manifest.getIdentityClaimPlaceholders()) {
+            claimURIs.add(getIdentityClaimURI(placeholder));
+        }
+        for (String placeholder : manifest.getUserClaimPlaceholders()) {
+            claimURIs.add(getUserClaimURI(placeholder));
+        }
+        return claimURIs;
+    }
+
+    private static String getIdentityClaimURI(String placeholder) {
+
+        return NotificationConstants.EmailNotification.WSO2_CLAIM_URI
+                + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX + "/" + placeholder
+                .substring(placeholder.indexOf(".", placeholder.indexOf("identity")) + 1);
+    }
+
+    private static String getUserClaimURI(String placeholder) {
+
+        return NotificationConstants.EmailNotification.WSO2_CLAIM_URI + placeholder
+                .substring(placeholder.indexOf(".", placeholder.indexOf("claim")) + 1);
     }
 
     /**
@@ -215,43 +512,84 @@ public class NotificationUtil {
                                                            Map<String, String> placeHolderData,
                                                            Map<String, String> userClaims, String applicationUuid) {
 
-        Map<String, String> configFilePlaceholders = getConfigFilePlaceholders();
+        return getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid, null);
+    }
 
-        JsonNode brandingPreferences = null;
-        Map<String, String> brandingFallbacks = getBrandingFallbacksFromConfigFile();
+    /**
+     * Set placeholder values for email templates with app level branding, and collect the placeholders whose values
+     * do not depend on the recipient of the notification.
+     *
+     * @param emailTemplate      {@link EmailTemplate}
+     * @param placeHolderData    List of placeholder data
+     * @param userClaims         List of user claims
+     * @param applicationUuid    Application UUID
+     * @param sharedPlaceholders Collects the placeholders which do not depend on the recipient and the version of
+     *                           the branding preferences they are resolved from, or null
+     * @return Place holder data
+     */
+    public static Map<String, String> getPlaceholderValues(EmailTemplate emailTemplate,
+                                                           Map<String, String> placeHolderData,
+                                                           Map<String, String> userClaims, String applicationUuid,
+                                                           SharedPlaceholders sharedPlaceholders) {
 
-        BrandingPreferenceManager brandingPreferenceManager = null;
-        if (Boolean.parseBoolean(
-                IdentityUtil.getProperty(NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))) {
-            try {
-                brandingPreferenceManager = new BrandingPreferenceManagerImpl();
-                BrandingPreference responseDTO;
-                if (StringUtils.isNotBlank(applicationUuid)) {
-                    responseDTO = brandingPreferenceManager.resolveApplicationBrandingPreference(applicationUuid,
-                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
-                } else {
-                    responseDTO = brandingPreferenceManager.resolveBrandingPreference(
-                            BrandingPreferenceMgtConstants.ORGANIZATION_TYPE,
-                            placeHolderData.get(TENANT_DOMAIN),
-                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
-                }
-                ObjectMapper objectMapper = new ObjectMapper();
-                String json = objectMapper.writeValueAsString(responseDTO.getPreference());
-                brandingPreferences = objectMapper.readTree(json);
+        return getPlaceholderValues(emailTemplate, getPlaceholderManifest(emailTemplate), placeHolderData,
+                userClaims, applicationUuid, sharedPlaceholders, null);
+    }
 
-                if (!brandingPreferences.at(NotificationConstants.EmailNotification.BRANDING_PREFERENCES_IS_ENABLED_PATH)
-                        .asBoolean()) {
-                    brandingPreferences = null;
-                }
+    /**
+     * Set placeholder values for templates whose notification is published to event publishers which use the given
+     * fields of the event. The URL placeholders are resolved only if they are used by the template or the publishers,
+     * eg: SMS notifications do not resolve the email URLs which their publishers do not use.
+     *
+     * @param emailTemplate         {@link EmailTemplate}
+     * @param placeHolderData       List of placeholder data
+     * @param userClaims            List of user claims
+     * @param publisherMappedFields Fields used by the event publishers, or null if they can not be determined
+     * @return Place holder data
+     */
+    public static Map<String, String> getPlaceholderValuesForPublishers(EmailTemplate emailTemplate,
+                                                                        Map<String, String> placeHolderData,
+                                                                        Map<String, String> userClaims,
+                                                                        Set<String> publisherMappedFields) {
+
+        return getPlaceholderValues(emailTemplate, getPlaceholderManifest(emailTemplate), placeHolderData,
+                userClaims, null, null, publisherMappedFields);
+    }
+
+    private static Map<String, String> getPlaceholderValues(EmailTemplate emailTemplate, PlaceholderManifest manifest,
+                                                            Map<String, String> placeHolderData,
+                                                            Map<String, String> userClaims, String applicationUuid,
+                                                            SharedPlaceholders sharedPlaceholders,
+                                                            Set<String> publisherMappedFields) {
+
+        // URL placeholders are added to the event for publishers unless only template placeholders are resolved, or
+        // only the ones used by the publishers are resolved.
+        boolean resolveTemplatePlaceholdersOnly =
+                NotificationHandlerDataHolder.getInstance().isResolveTemplatePlaceholdersOnly();
+        boolean resolveAllPlaceholders = !resolveTemplatePlaceholdersOnly && publisherMappedFields == null;
+        Set<String> requiredEventFields = resolveTemplatePlaceholdersOnly || publisherMappedFields == null
+                ? Collections.emptySet() : publisherMappedFields;
+
+        Map<String, String> configFilePlaceholders = manifest.getConfigFilePlaceholders().isEmpty()
+                ? Collections.emptyMap() : getConfigFilePlaceholders();
+
+        BrandingPreferenceSnapshot brandingPreferenceSnapshot = null;
+        boolean brandingPlaceholdersUsed = !manifest.getBrandingPlaceholders().isEmpty();
+        Map<String, String> brandingFallbacks = brandingPlaceholdersUsed
+                ? getBrandingFallbacksFromConfigFile() : Collections.emptyMap();
+
+        boolean organizationBrandingEnabled = Boolean.parseBoolean(
+                IdentityUtil.getProperty(NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING));
+        // Branding preferences are only used to resolve the branding and the copyright text placeholders.
+        if (organizationBrandingEnabled
+                && (brandingPlaceholdersUsed || placeHolderData.containsKey(ORGANIZATION_COPYRIGHT_PLACEHOLDER))) {
+            try {
+                brandingPreferenceSnapshot = getBrandingPreferenceSnapshot(applicationUuid,
+                        placeHolderData.get(TENANT_DOMAIN));
             } catch (BrandingPreferenceMgtException e) {
-                if (BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS.getCode()
-                        .equals(e.getErrorCode())) {
-                    brandingPreferences = null;
-                } else {
-                    if (log.isDebugEnabled()) {
-                        String message = "Error occurred while retrieving branding preferences for organization " + placeHolderData.get(TENANT_DOMAIN);
-                        log.debug(message, e);
-                    }
+                if (log.isDebugEnabled()) {
+                    String message = "Error occurred while retrieving branding preferences for organization " + placeHolderData.get(TENANT_DOMAIN);
+                    log.debug(message, e);
                 }
             } catch (Exception e) {
                 if (log.isDebugEnabled()) {
@@ -261,45 +599,39 @@ public class NotificationUtil {
             }
         }
 
-        // Having a body is mandatory.
-        List<String> placeHolders = new ArrayList<>(extractPlaceHolders(emailTemplate.getBody()));
-        if (StringUtils.isNotEmpty(emailTemplate.getSubject())) {
-            placeHolders.addAll(extractPlaceHolders(emailTemplate.getSubject()));
+        Map<String, String> brandingPlaceholderValues = brandingPlaceholdersUsed
+                ? getBrandingPlaceholderValues(brandingPreferenceSnapshot, brandingFallbacks) : Collections.emptyMap();
+        if (sharedPlaceholders != null && brandingPreferenceSnapshot != null) {
+            sharedPlaceholders.setBrandingVersion(brandingPreferenceSnapshot.getVersion());
         }
-        if (StringUtils.isNotEmpty(emailTemplate.getFooter())) {
-            placeHolders.addAll(extractPlaceHolders(emailTemplate.getFooter()));
-        }
-        Set<String> placeHoldersSet = new HashSet<>(placeHolders);
 
-        for (String placeHolder : placeHoldersSet) {
+        for (String placeHolder : manifest.getPlaceholders()) {
             // Setting config file place holders.
             if (placeHolder.startsWith(NotificationConstants.EmailNotification.IDENTITY_TEMPLATE_VALUE_PREFIX)) {
                 String key = placeHolder.substring(placeHolder.lastIndexOf(".") + 1);
                 String value = configFilePlaceholders.getOrDefault(key, "");
                 placeHolderData.put(placeHolder, value);
+                addSharedPlaceholder(sharedPlaceholders, placeHolder);
             }
 
             // Setting branding placeholders.
-            String brandingValue = getBrandingPreference(placeHolder, brandingPreferences, brandingFallbacks);
+            String brandingValue = brandingPlaceholderValues.get(placeHolder);
             if (brandingValue != null) {
                 placeHolderData.put(placeHolder, brandingValue);
+                addSharedPlaceholder(sharedPlaceholders, placeHolder);
             }
 
             if (userClaims != null && !userClaims.isEmpty()) {
                 if (placeHolder.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX + "."
                         + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX)) {
-                    String identityClaim = userClaims.get(NotificationConstants.EmailNotification.WSO2_CLAIM_URI
-                            + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX + "/" + placeHolder
-                            .substring(placeHolder.indexOf(".", placeHolder.indexOf("identity")) + 1));
+                    String identityClaim = userClaims.get(getIdentityClaimURI(placeHolder));
                     if (StringUtils.isNotEmpty(identityClaim)) {
                         placeHolderData.put(placeHolder, identityClaim);
                     } else {
                         placeHolderData.put(placeHolder, "");
                     }
                 } else if (placeHolder.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX)) {
-                    String userClaim = userClaims
-                            .get(NotificationConstants.EmailNotification.WSO2_CLAIM_URI + placeHolder
-                                    .substring(placeHolder.indexOf(".", placeHolder.indexOf("claim")) + 1));
+                    String userClaim = userClaims.get(getUserClaimURI(placeHolder));
                     if (StringUtils.isNotEmpty(userClaim)) {
                         placeHolderData.put(placeHolder, userClaim);
                     } else {
@@ -333,70 +665,252 @@ public class NotificationUtil {
         }
 
         // Setting copyright text placeholder according to custom text preferences if branding is enabled.
-        if (brandingPreferences != null && placeHolderData.containsKey(ORGANIZATION_COPYRIGHT_PLACEHOLDER)) {
-            String copyrightPlaceholder = getCopyrightPlaceholderValueFromCustomTexts(
+        if (brandingPreferenceSnapshot != null && brandingPreferenceSnapshot.isBrandingEnabled()
+                && placeHolderData.containsKey(ORGANIZATION_COPYRIGHT_PLACEHOLDER)) {
+            String copyrightPlaceholder = getCopyrightPlaceholderValue(brandingPreferenceSnapshot,
                     placeHolderData.get(TENANT_DOMAIN), emailTemplate.getLocale());
+            // The copyright text is resolved from the custom texts, which are not versioned with the branding
+            // preferences, hence it is not added to the shared placeholders.
             if (StringUtils.isNotBlank(copyrightPlaceholder)) {
                 placeHolderData.put(ORGANIZATION_COPYRIGHT_PLACEHOLDER, copyrightPlaceholder);
             }
         }
 
+        boolean accountRecoveryUrlRequired = isPlaceholderRequired(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER,
+                resolveAllPlaceholders, manifest, requiredEventFields);
+        boolean authenticationUrlRequired = isPlaceholderRequired(AUTHENTICATION_ENDPOINT_PLACEHOLDER,
+                resolveAllPlaceholders, manifest, requiredEventFields);
+        boolean serverUrlRequired = isPlaceholderRequired(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER,
+                resolveAllPlaceholders, manifest, requiredEventFields) || isPlaceholderRequired(
+                CALLER_PATH_PLACEHOLDER, resolveAllPlaceholders, manifest, requiredEventFields);
+        boolean carbonUrlWithUserTenantRequired = isPlaceholderRequired(
+                CARBON_PRODUCT_URL_WITH_USER_TENANT_TEMPLATE_PLACEHOLDER, resolveAllPlaceholders, manifest,
+                requiredEventFields);
+        if (!accountRecoveryUrlRequired && !authenticationUrlRequired && !serverUrlRequired &&
+                !carbonUrlWithUserTenantRequired) {
+            return placeHolderData;
+        }
+
+        NotificationUrlProfile urlProfile = getCachedUrlProfile(placeHolderData.get(TENANT_DOMAIN));
+        String flowType = placeHolderData.get(FLOW_TYPE);
+        if (accountRecoveryUrlRequired) {
+            if (Flow.Name.INVITED_USER_REGISTRATION.toString().equalsIgnoreCase(flowType)) {
+                if (organizationBrandingEnabled) {
+                    try {
+                        placeHolderData.put(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER, BrandingPreferenceMgtUtils.
+                                buildConfiguredPortalURL(null, placeHolderData.get(TENANT_DOMAIN),
+                                        new BrandingPreferenceManagerImpl(), flowType));
+                    } catch (URLBuilderException | BrandingPreferenceMgtException e) {
+                        throw NotificationRuntimeException.error("Error while retrieving the portal URL for " +
+                                "the tenant: " + placeHolderData.get(TENANT_DOMAIN) + ", flowtype: " + flowType, e);
+                    }
+                }
+            } else {
+                placeHolderData.put(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER, urlProfile != null
+                        ? urlProfile.getAccountRecoveryEndpointUrl()
+                        : ConfigurationFacade.getInstance().getAccountRecoveryEndpointAbsolutePath());
+                addSharedPlaceholder(sharedPlaceholders, ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER);
+            }
+        }
+
+        if (authenticationUrlRequired) {
+            placeHolderData.put(AUTHENTICATION_ENDPOINT_PLACEHOLDER, urlProfile != null
+                    ? urlProfile.getAuthenticationEndpointUrl()
+                    : ConfigurationFacade.getInstance().getAuthenticationEndpointAbsoluteURL());
+            addSharedPlaceholder(sharedPlaceholders, AUTHENTICATION_ENDPOINT_PLACEHOLDER);
+        }
+
         // Building the server url.
         String serverURL;
         String carbonUrlWithUserTenant;
-        String accountRecoveryEndpointURL = ConfigurationFacade.getInstance().getAccountRecoveryEndpointAbsolutePath();
-        String authenticationEndpointURL = ConfigurationFacade.getInstance().getAuthenticationEndpointAbsoluteURL();
+        if (urlProfile != null) {
+            serverURL = urlProfile.getServerUrl();
+            carbonUrlWithUserTenant = urlProfile.getCarbonUrlWithUserTenant();
+        } else {
+            ServiceURL serviceURL = buildServiceURL();
+            serverURL = serviceURL.getAbsolutePublicURL();
+            carbonUrlWithUserTenant = getCarbonUrlWithUserTenant(serviceURL, placeHolderData.get(TENANT_DOMAIN));
+        }
+
+        if (serverUrlRequired) {
+            String emailType = placeHolderData.get(TEMPLATE_TYPE);
+            if (MAGIC_LINK.equals(emailType)) {
+                String redirectUrl = placeHolderData.get(CALLBACK_URL);
+                String isAPIBasedAuthenticationFlow = placeHolderData.get(IS_API_BASED_AUTHENTICATION_SUPPORTED);
+
+                if (Boolean.parseBoolean(isAPIBasedAuthenticationFlow) && StringUtils.isNotEmpty(redirectUrl)) {
+                    placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, redirectUrl);
+                    placeHolderData.put(CALLER_PATH_PLACEHOLDER, "");
+                } else {
+                    placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, serverURL);
+                    placeHolderData.put(CALLER_PATH_PLACEHOLDER, "/commonauth");
+                }
+            } else {
+                placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, serverURL);
+                addSharedPlaceholder(sharedPlaceholders, CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER);
+            }
+        }
+        if (carbonUrlWithUserTenantRequired) {
+            placeHolderData.put(CARBON_PRODUCT_URL_WITH_USER_TENANT_TEMPLATE_PLACEHOLDER, carbonUrlWithUserTenant);
+            addSharedPlaceholder(sharedPlaceholders, CARBON_PRODUCT_URL_WITH_USER_TENANT_TEMPLATE_PLACEHOLDER);
+        }
+        return placeHolderData;
+    }
+
+    /**
+     * Get the snapshot of the enabled branding preferences of the given application, or of the given tenant if the
+     * application is not specified. The snapshot is looked up from the {@link BrandingPreferenceCache} first, and the
+     * branding preferences are resolved through the branding preference manager only if it is not cached, so that
+     * the snapshot and the placeholder values projected from it are reused until the snapshot expires or is
+     * invalidated.
+     *
+     * @param applicationUuid Application UUID.
+     * @param tenantDomain    Tenant domain.
+     * @return Branding preference snapshot, without preferences if branding is not configured or not enabled.
+     * @throws BrandingPreferenceMgtException If an error occurred while resolving the branding preferences.
+     */
+    private static BrandingPreferenceSnapshot getBrandingPreferenceSnapshot(String applicationUuid,
+                                                                            String tenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        BrandingPreferenceCache brandingPreferenceCache = BrandingPreferenceCache.getInstance();
+        if (!brandingPreferenceCache.isEnabled()) {
+            return new BrandingPreferenceSnapshot(resolveBrandingPreferences(applicationUuid, tenantDomain));
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        BrandingPreferenceSnapshot snapshot = brandingPreferenceCache.getSnapshot(tenantId, applicationUuid);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return brandingPreferenceCache.addSnapshot(tenantId, applicationUuid,
+                resolveBrandingPreferences(applicationUuid, tenantDomain));
+    }
+
+    private static JsonNode resolveBrandingPreferences(String applicationUuid, String tenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
+        BrandingPreference responseDTO;
         try {
-            serverURL = ServiceURLBuilder.create().build().getAbsolutePublicURL();
-            carbonUrlWithUserTenant = ServiceURLBuilder.create().build().getAbsolutePublicUrlWithoutPath();
+            if (StringUtils.isNotBlank(applicationUuid)) {
+                responseDTO = brandingPreferenceManager.resolveApplicationBrandingPreference(applicationUuid,
+                        BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
+            } else {
+                responseDTO = brandingPreferenceManager.resolveBrandingPreference(
+                        BrandingPreferenceMgtConstants.ORGANIZATION_TYPE, tenantDomain,
+                        BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
+            }
+        } catch (BrandingPreferenceMgtException e) {
+            if (BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS.getCode()
+                    .equals(e.getErrorCode())) {
+                return null;
+            }
+            throw e;
+        }
+
+        JsonNode brandingPreferences = responseDTO.getPreference() == null ? null
+                : OBJECT_MAPPER.valueToTree(responseDTO.getPreference());
+        if (brandingPreferences != null && !brandingPreferences.at(
+                NotificationConstants.EmailNotification.BRANDING_PREFERENCES_IS_ENABLED_PATH).asBoolean()) {
+            return null;
+        }
+        return brandingPreferences;
+    }
+
+    /**
+     * Get the values of all the branding placeholders for the given branding preferences. The values are projected
+     * once per branding preference snapshot and branding fallbacks, and kept with the snapshot.
+     *
+     * @param brandingPreferenceSnapshot Branding preference snapshot, or null if branding preferences are not used.
+     * @param brandingFallbacks          Default branding values.
+     * @return Unmodifiable map of the branding placeholder values.
+     */
+    public static Map<String, String> getBrandingPlaceholderValues(
+            BrandingPreferenceSnapshot brandingPreferenceSnapshot, Map<String, String> brandingFallbacks) {
+
+        BrandingPreferenceSnapshot snapshot = brandingPreferenceSnapshot != null
+                ? brandingPreferenceSnapshot : NO_BRANDING_PREFERENCE_SNAPSHOT;
+        int year = Calendar.getInstance().get(Calendar.YEAR);
+        Map<String, String> placeholderValues = snapshot.getPlaceholderValues(brandingFallbacks, year);
+        if (placeholderValues != null) {
+            return placeholderValues;
+        }
 
-            if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled() &&
-                    (isSuperTenantRequiredInUrl()
-                            || !SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(placeHolderData.get(TENANT_DOMAIN)))) {
-                // If tenant domain is carbon.super, and super tenant is not required in the URL,
-                // then the tenant domain should not be appended.
-                carbonUrlWithUserTenant = ServiceURLBuilder.create().build().getAbsolutePublicUrlWithoutPath() + "/t" +
-                        "/" + placeHolderData.get(TENANT_DOMAIN);
+        JsonNode brandingPreferences = snapshot.getPreferences();
+        boolean brandingIsEnabled = isBrandingEnabled(brandingPreferences);
+        String theme = getBrandingTheme(brandingPreferences, brandingIsEnabled);
+        placeholderValues = new HashMap<>();
+        for (String placeholder : TemplatePlaceholders.BRANDING_PLACEHOLDERS) {
+            String value = getBrandingPreference(placeholder, brandingPreferences, brandingIsEnabled, theme,
+                    brandingFallbacks);
+            if (value != null) {
+                placeholderValues.put(placeholder, value);
             }
+        }
+        return snapshot.setPlaceholderValues(brandingFallbacks, year, placeholderValues);
+    }
+
+    /**
+     * Get the URL profile of the given tenant from the {@link NotificationUrlProfileCache}. The profile is built and
+     * cached if it is not already cached.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @return URL profile, or null if the URL profile cache is disabled.
+     */
+    private static NotificationUrlProfile getCachedUrlProfile(String tenantDomain) {
+
+        NotificationUrlProfileCache urlProfileCache = NotificationUrlProfileCache.getInstance();
+        if (!urlProfileCache.isEnabled()) {
+            return null;
+        }
+        String contextTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        NotificationUrlProfile urlProfile = urlProfileCache.getUrlProfile(contextTenantDomain, tenantId);
+        if (urlProfile != null) {
+            return urlProfile;
+        }
+        ServiceURL serviceURL = buildServiceURL();
+        urlProfile = new NotificationUrlProfile(serviceURL.getAbsolutePublicURL(),
+                getCarbonUrlWithUserTenant(serviceURL, tenantDomain),
+                ConfigurationFacade.getInstance().getAccountRecoveryEndpointAbsolutePath(),
+                ConfigurationFacade.getInstance().getAuthenticationEndpointAbsoluteURL());
+        urlProfileCache.addUrlProfile(contextTenantDomain, tenantId, urlProfile);
+        return urlProfile;
+    }
+
+    private static ServiceURL buildServiceURL() {
+
+        try {
+            return ServiceURLBuilder.create().build();
         } catch (URLBuilderException e) {
             throw NotificationRuntimeException.error("Error while building the server url.", e);
         }
+    }
 
-        String flowType = placeHolderData.get(FLOW_TYPE);
-        if (Flow.Name.INVITED_USER_REGISTRATION.toString().equalsIgnoreCase(flowType)) {
-            if (brandingPreferenceManager != null) {
-                try {
-                    placeHolderData.put(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER, BrandingPreferenceMgtUtils.
-                            buildConfiguredPortalURL(null, placeHolderData.get(TENANT_DOMAIN),
-                                    brandingPreferenceManager, flowType));
-                } catch (URLBuilderException | BrandingPreferenceMgtException e) {
-                    throw NotificationRuntimeException.error("Error while retrieving the portal URL for " +
-                            "the tenant: " + placeHolderData.get(TENANT_DOMAIN) + ", flowtype: " + flowType, e);
-                }
-            }
-        } else {
-            placeHolderData.put(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER, accountRecoveryEndpointURL);
+    private static String getCarbonUrlWithUserTenant(ServiceURL serviceURL, String tenantDomain) {
+
+        String carbonUrlWithUserTenant = serviceURL.getAbsolutePublicUrlWithoutPath();
+        if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled() &&
+                (isSuperTenantRequiredInUrl() || !SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomain))) {
+            // If tenant domain is carbon.super, and super tenant is not required in the URL,
+            // then the tenant domain should not be appended.
+            carbonUrlWithUserTenant = carbonUrlWithUserTenant + "/t" + "/" + tenantDomain;
         }
+        return carbonUrlWithUserTenant;
+    }
 
-        placeHolderData.put(AUTHENTICATION_ENDPOINT_PLACEHOLDER, authenticationEndpointURL);
-        String emailType = placeHolderData.get(TEMPLATE_TYPE);
+    private static boolean isPlaceholderRequired(String placeholder, boolean resolveAllPlaceholders,
+                                                 PlaceholderManifest manifest, Set<String> requiredEventFields) {
 
-        if (MAGIC_LINK.equals(emailType)) {
-            String redirectUrl = placeHolderData.get(CALLBACK_URL);
-            String isAPIBasedAuthenticationFlow = placeHolderData.get(IS_API_BASED_AUTHENTICATION_SUPPORTED);
+        return resolveAllPlaceholders || manifest.isReferenced(placeholder)
+                || requiredEventFields.contains(placeholder);
+    }
 
-            if (Boolean.parseBoolean(isAPIBasedAuthenticationFlow) && StringUtils.isNotEmpty(redirectUrl)) {
-                placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, redirectUrl);
-                placeHolderData.put(CALLER_PATH_PLACEHOLDER, "");
-            } else {
-                placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, serverURL);
-                placeHolderData.put(CALLER_PATH_PLACEHOLDER, "/commonauth");
-            }
-        } else {
-            placeHolderData.put(CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER, serverURL);
+    private static void addSharedPlaceholder(SharedPlaceholders sharedPlaceholders, String placeholder) {
+
+        if (sharedPlaceholders != null) {
+            sharedPlaceholders.add(placeholder);
         }
-        placeHolderData.put(CARBON_PRODUCT_URL_WITH_USER_TENANT_TEMPLATE_PLACEHOLDER, carbonUrlWithUserTenant);
-        return placeHolderData;
     }
 
     /**
@@ -412,16 +926,51 @@ public class NotificationUtil {
                 NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))) {
             return null;
         }
+        return formatCopyrightText(resolveCopyrightCustomText(tenantDomain, locale));
+    }
+
+    /**
+     * Return copyright placeholder value for email templates from the custom text preferences. The copyright text of
+     * the locale is resolved once and kept with the given branding preference snapshot.
+     *
+     * @param brandingPreferenceSnapshot Branding preference snapshot of the organization or the application.
+     * @param tenantDomain               Tenant domain.
+     * @param locale                     Locale of the email template.
+     * @return Copyright text placeholder value.
+     */
+    private static String getCopyrightPlaceholderValue(BrandingPreferenceSnapshot brandingPreferenceSnapshot,
+                                                       String tenantDomain, String locale) {
+
+        String copyrightText = brandingPreferenceSnapshot.getCopyrightText(locale);
+        if (copyrightText == null) {
+            copyrightText = resolveCopyrightCustomText(tenantDomain, locale);
+            // The copyright text is not kept if the custom texts could not be resolved, so that it is resolved again.
+            if (copyrightText != null) {
+                brandingPreferenceSnapshot.setCopyrightText(locale, copyrightText);
+            }
+        }
+        return formatCopyrightText(copyrightText);
+    }
+
+    /**
+     * Resolve the copyright text from the custom text preferences of the organization.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param locale       Locale of the custom texts.
+     * @return Copyright text, which is empty if it is not configured, or null if an error occurred while resolving
+     * the custom texts.
+     */
+    private static String resolveCopyrightCustomText(String tenantDomain, String locale) {
 
-        JsonNode customTextPreference = null;
         try {
             BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
             CustomText responseDTO = brandingPreferenceManager.resolveCustomText(
                     BrandingPreferenceMgtConstants.ORGANIZATION_TYPE, tenantDomain, CUSTOM_TEXT_COMMON_SCREEN, locale);
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            String json = objectMapper.writeValueAsString(responseDTO.getPreference());
-            customTextPreference = objectMapper.readTree(json);
+            if (responseDTO.getPreference() == null) {
+                return StringUtils.EMPTY;
+            }
+            JsonNode customTextPreference = OBJECT_MAPPER.valueToTree(responseDTO.getPreference());
+            return customTextPreference.at(CUSTOM_TEXT_COPYRIGHT_PATH).asText();
         } catch (BrandingPreferenceMgtException e) {
             if (BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS.getCode()
                     .equals(e.getErrorCode())) {
@@ -430,13 +979,12 @@ public class NotificationUtil {
                             + tenantDomain + " with locale: " + locale;
                     log.debug(message, e);
                 }
-                customTextPreference = null;
-            } else {
-                if (log.isDebugEnabled()) {
-                    String message = "Error occurred while retrieving custom text preferences for organization "
-                            + tenantDomain;
-                    log.debug(message, e);
-                }
+                return StringUtils.EMPTY;
+            }
+            if (log.isDebugEnabled()) {
+                String message = "Error occurred while retrieving custom text preferences for organization "
+                        + tenantDomain;
+                log.debug(message, e);
             }
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
@@ -445,22 +993,53 @@ public class NotificationUtil {
                 log.debug(message, e);
             }
         }
+        return null;
+    }
 
-        if (customTextPreference != null) {
-            String copyrightValue = customTextPreference.at(CUSTOM_TEXT_COPYRIGHT_PATH).asText();
-            if (StringUtils.isNotBlank(copyrightValue)) {
-                // Replace {{currentYear}} with current year to change the copyright year in the email templates.
-                String currentYear = String.valueOf(Calendar.getInstance().get(Calendar.YEAR));
-                copyrightValue = copyrightValue.replace(CUSTOM_TEXT_COPYRIGHT_YEAR_KEY, (currentYear));
-                // Replace "\n" with Html new line character "<br>".
-                return copyrightValue.replace(NEW_LINE_CHARACTER_STRING, NEW_LINE_CHARACTER_HTML);
-            }
+    private static String formatCopyrightText(String copyrightValue) {
+
+        if (StringUtils.isNotBlank(copyrightValue)) {
+            // Replace {{currentYear}} with current year to change the copyright year in the email templates.
+            String currentYear = String.valueOf(Calendar.getInstance().get(Calendar.YEAR));
+            copyrightValue = copyrightValue.replace(CUSTOM_TEXT_COPYRIGHT_YEAR_KEY, (currentYear));
+            // Replace "\n" with Html new line character "<br>".
+            return copyrightValue.replace(NEW_LINE_CHARACTER_STRING, NEW_LINE_CHARACTER_HTML);
         }
         return null;
     }
 
+    /**
+     * Retrieve the template placeholder values configured in the identity.xml.
+     *
+     * @return map of template placeholder values.
+     */
     public static Map<String, String> getConfigFilePlaceholders() {
 
+        Map<String, String> configFilePlaceholders =
+                NotificationHandlerDataHolder.getInstance().getConfigFilePlaceholders();
+        return configFilePlaceholders != null ? configFilePlaceholders : readConfigFilePlaceholders();
+    }
+
+    /**
+     * Load the template placeholder values and the branding fallbacks from the identity.xml, so that the values are
+     * not read from the configuration for every notification. This is done when the component is activated and
+     * should be invoked again to apply a change of these configurations. The cached notification URLs are built
+     * again with the changed configurations once they expire from the {@link NotificationUrlProfileCache}.
+     */
+    public static void loadConfigFileValues() {
+
+        Map<String, String> configFilePlaceholders = readConfigFilePlaceholders();
+        Map<String, String> brandingFallbacks = readBrandingFallbacksFromConfigFile();
+        NotificationHandlerDataHolder.getInstance().setConfigFilePlaceholders(
+                Collections.unmodifiableMap(configFilePlaceholders));
+        NotificationHandlerDataHolder.getInstance().setBrandingFallbacks(
+                Collections.unmodifiableMap(brandingFallbacks));
+        NotificationHandlerDataHolder.getInstance().setConfigurationVersion(
+                String.valueOf(Objects.hash(configFilePlaceholders, brandingFallbacks)));
+    }
+
+    private static Map<String, String> readConfigFilePlaceholders() {
+
         IdentityConfigParser configParser = IdentityConfigParser.getInstance();
         OMElement placeHolderElem = configParser.getConfigElement(
                 NotificationConstants.EmailNotification.TEMPLATE_PLACEHOLDERS_ELEM);
@@ -487,11 +1066,33 @@ public class NotificationUtil {
         return placeholderMap;
     }
 
+    /**
+     * Get the distinct placeholders of the body, subject and footer of the given email template. The placeholders
+     * are resolved from the placeholder manifest of the template, hence a template is analysed only once.
+     *
+     * @param emailTemplate {@link EmailTemplate}
+     * @return Set of placeholders.
+     */
+    public static Set<String> getTemplatePlaceholders(EmailTemplate emailTemplate) {
+
+        return getPlaceholderManifest(emailTemplate).getPlaceholders();
+    }
+
+    /**
+     * Get the placeholder manifest of the given email template. The manifest is carried by the compiled email
+     * template in the {@link CompiledTemplateCache}, hence it is built once per template content.
+     *
+     * @param emailTemplate {@link EmailTemplate}
+     * @return Placeholder manifest of the template.
+     */
+    public static PlaceholderManifest getPlaceholderManifest(EmailTemplate emailTemplate) {
+
+        return CompiledTemplateCache.getInstance().getCompiledEmailTemplate(emailTemplate).getPlaceholderManifest();
+    }
+
     public static List<String> extractPlaceHolders(String value) {
 
-        String exp = "\\{\\{(.*?)\\}\\}";
-        Pattern pattern = Pattern.compile(exp);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(value);
         List<String> placeHolders = new ArrayList<>();
         while (matcher.find()) {
             String group = matcher.group().replace("{{", "").replace("}}", "");
@@ -537,6 +1138,69 @@ public class NotificationUtil {
         }
     }
 
+    /**
+     * Get the event fields referenced by the output mappings and the dynamic adapter properties of the active event
+     * publishers of the given stream. The fields are cached per tenant and stream in the
+     * {@link PublisherMappedFieldsCache}, and the active publishers are listed only when the cached fields are missing
+     * or expired.
+     *
+     * @param streamId Stream id in the format of name:version.
+     * @return Set of referenced fields, or null if the fields used by a publisher of the stream can not be determined.
+     */
+    public static Set<String> getPublisherMappedFields(String streamId) {
+
+        EventPublisherService eventPublisherService = NotificationHandlerDataHolder.getInstance()
+                .getEventPublisherService();
+        if (eventPublisherService == null || StringUtils.isBlank(streamId)) {
+            return null;
+        }
+        return PublisherMappedFieldsCache.getInstance().getMappedFields(
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(), streamId,
+                () -> getActivePublisherConfigurations(eventPublisherService, streamId),
+                configurations -> resolvePublisherMappedFields(streamId, configurations));
+    }
+
+    private static List<EventPublisherConfiguration> getActivePublisherConfigurations(
+            EventPublisherService eventPublisherService, String streamId) {
+
+        try {
+            return eventPublisherService.getAllActiveEventPublisherConfigurations();
+        } catch (EventPublisherConfigurationException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while retrieving the active event publishers of the stream: " + streamId, e);
+            }
+            return null;
+        }
+    }
+
+    private static Set<String> resolvePublisherMappedFields(String streamId,
+                                                            List<EventPublisherConfiguration> configurations) {
+
+        CompiledTemplateCache compiledTemplateCache = CompiledTemplateCache.getInstance();
+        Set<String> mappedFields = new HashSet<>();
+        for (EventPublisherConfiguration eventPublisherConfiguration : configurations) {
+            if (!streamId.equals(eventPublisherConfiguration.getFromStreamName() + ":" +
+                    eventPublisherConfiguration.getFromStreamVersion())) {
+                continue;
+            }
+            OutputMapping outputMapping = eventPublisherConfiguration.getOutputMapping();
+            // Default mappings and mappings stored in the registry may use any field of the event.
+            if (!(outputMapping instanceof TextOutputMapping) || !outputMapping.isCustomMappingEnabled() ||
+                    ((TextOutputMapping) outputMapping).isRegistryResource()) {
+                return null;
+            }
+            mappedFields.addAll(compiledTemplateCache.getCompiledTemplate(
+                    ((TextOutputMapping) outputMapping).getMappingText()).getPlaceholders());
+            Map<String, String> dynamicProperties = eventPublisherConfiguration.getToAdapterDynamicProperties();
+            if (dynamicProperties != null) {
+                for (String dynamicProperty : dynamicProperties.values()) {
+                    mappedFields.addAll(compiledTemplateCache.getCompiledTemplate(dynamicProperty).getPlaceholders());
+                }
+            }
+        }
+        return mappedFields;
+    }
+
     public static void deployPublisher(EventPublisherConfiguration eventPublisherConfiguration) throws NotificationRuntimeException {
 
         EventPublisherService eventPublisherService = NotificationHandlerDataHolder.getInstance().getEventPublisherService();
@@ -554,6 +1218,12 @@ public class NotificationUtil {
      */
     public static Map<String, String> getBrandingFallbacksFromConfigFile() {
 
+        Map<String, String> brandingFallbacks = NotificationHandlerDataHolder.getInstance().getBrandingFallbacks();
+        return brandingFallbacks != null ? brandingFallbacks : readBrandingFallbacksFromConfigFile();
+    }
+
+    private static Map<String, String> readBrandingFallbacksFromConfigFile() {
+
         IdentityConfigParser configParser = IdentityConfigParser.getInstance();
         OMElement fallbackElem = configParser.getConfigElement(
                 NotificationConstants.EmailNotification.ORGANIZATION_LEVEL_EMAIL_BRANDING_FALLBACKS_ELEM);
@@ -590,13 +1260,28 @@ public class NotificationUtil {
      */
     public static String getBrandingPreference(String key, JsonNode brandingPreferences, Map<String, String> brandingFallbacks) {
 
-        String value = null;
-        boolean brandingIsEnabled = (brandingPreferences != null)
+        boolean brandingIsEnabled = isBrandingEnabled(brandingPreferences);
+        return getBrandingPreference(key, brandingPreferences, brandingIsEnabled,
+                getBrandingTheme(brandingPreferences, brandingIsEnabled), brandingFallbacks);
+    }
+
+    private static boolean isBrandingEnabled(JsonNode brandingPreferences) {
+
+        return (brandingPreferences != null)
                 && brandingPreferences.at(NotificationConstants.EmailNotification.BRANDING_PREFERENCES_IS_ENABLED_PATH).asBoolean();
-        String theme = brandingIsEnabled
+    }
+
+    private static String getBrandingTheme(JsonNode brandingPreferences, boolean brandingIsEnabled) {
+
+        return brandingIsEnabled
                 ? brandingPreferences.at("/theme/activeTheme").asText()
                 : NotificationConstants.EmailNotification.BRANDING_PREFERENCES_LIGHT_THEME;
+    }
 
+    private static String getBrandingPreference(String key, JsonNode brandingPreferences, boolean brandingIsEnabled,
+                                                String theme, Map<String, String> brandingFallbacks) {
+
+        String value = null;
         switch (key) {
             case "organization.logo.img" :
                 if (brandingIsEnabled && StringUtils.isNotBlank(
@@ -618,8 +1303,8 @@ public class NotificationUtil {
                 value = (brandingIsEnabled && StringUtils.isNotBlank(
                             brandingPreferences.at(BRANDING_PREFERENCES_COPYRIGHT_TEXT_PATH).asText()))
                         ? brandingPreferences.at(BRANDING_PREFERENCES_COPYRIGHT_TEXT_PATH).asText()
-                        : brandingFallbacks.get("copyright_text")
-                            .replace("YYYY", String.valueOf(Calendar.getInstance().get(Calendar.YEAR)));
+                        : StringUtils.replace(brandingFallbacks.get("copyright_text"),
+                            "YYYY", String.valueOf(Calendar.getInstance().get(Calendar.YEAR)));
                 break;
             case "organization.support.mail" :
                 value = (brandingIsEnabled && StringUtils.isNotBlank(
@@ -696,6 +1381,9 @@ public class NotificationUtil {
         //if it is not there, then assume this sent-to parameter should read from user's email claim only.
         String sendTo = placeHolderData.get(NotificationConstants.EmailNotification.ARBITRARY_SEND_TO);
         Map<String, String> userClaims = new HashMap<>();
+        boolean fetchTemplateClaimsOnly = NotificationHandlerDataHolder.getInstance().isFetchTemplateClaimsOnly();
+        boolean templateClaimsPending = false;
+        Set<String> fetchedClaimURIs = null;
 
         Map<String, Object> eventProperties = event.getEventProperties();
         String notificationEvent = (String) eventProperties
@@ -720,11 +1408,26 @@ public class NotificationUtil {
                             fedUserClaims.put(claimMapping.getLocalClaim().getClaimUri(), value));
             userClaims.putAll(fedUserClaims);
         } else if (!REGISTRATION_FLOW.equals(flowType)) {
-            if (StringUtils.isNotBlank(username) && userStoreManager != null) {
-                userClaims = NotificationUtil.getUserClaimValues(username, userStoreManager);
-            } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(userStoreDomainName) &&
-                    StringUtils.isNotBlank(tenantDomain)) {
-                userClaims = NotificationUtil.getUserClaimValues(username, userStoreDomainName, tenantDomain);
+            Map<String, String> prefetchedUserClaims =
+                    (Map<String, String>) eventProperties.get(NotificationConstants.PREFETCHED_USER_CLAIMS);
+            if (prefetchedUserClaims != null) {
+                // Claims retrieved in a batch. Claims used by the template which are not retrieved are fetched
+                // once the template is resolved.
+                userClaims = new HashMap<>(prefetchedUserClaims);
+                fetchedClaimURIs = new HashSet<>(Arrays.asList(
+                        (String[]) eventProperties.get(NotificationConstants.PREFETCHED_CLAIM_URIS)));
+                templateClaimsPending = true;
+            } else {
+                // When only the claims used by the template are fetched, the claims needed to select the template
+                // and the recipient are fetched first, and the claims used by the template once it is resolved.
+                String[] claimURIs = fetchTemplateClaimsOnly ? getRecipientClaimURIs() : null;
+                Map<String, String> userClaimValues = getUserClaimValues(username, userStoreManager,
+                        userStoreDomainName, tenantDomain, claimURIs);
+                if (userClaimValues != null) {
+                    userClaims = userClaimValues;
+                    templateClaimsPending = fetchTemplateClaimsOnly;
+                    fetchedClaimURIs = fetchTemplateClaimsOnly ? new HashSet<>(Arrays.asList(claimURIs)) : null;
+                }
             }
         }
         String locale = getNotificationLocale();
@@ -764,13 +1467,7 @@ public class NotificationUtil {
                 applicationUuid = event.getEventProperties().get(SERVICE_PROVIDER_UUID).toString();
             } else if (event.getEventProperties().get(SERVICE_PROVIDER_NAME) != null) {
                 applicationName = event.getEventProperties().get(SERVICE_PROVIDER_NAME).toString();
-                try {
-                    applicationUuid = NotificationHandlerDataHolder.getInstance().getApplicationManagementService()
-                            .getApplicationBasicInfoByName(applicationName, applicationDomain)
-                            .getApplicationResourceId();
-                } catch (IdentityApplicationManagementException | NullPointerException e) {
-                    log.debug("Fallback to organization preference. Error fetching application id for application name: " + applicationName, e);
-                }
+                applicationUuid = resolveApplicationUuid(applicationName, applicationDomain);
             } else {
                 log.debug("Fallback to organization preference. Cannot get application id or application name from the event");
             }
@@ -807,28 +1504,144 @@ public class NotificationUtil {
             throw NotificationRuntimeException.error(message, e);
         }
 
+        CompiledEmailTemplate compiledEmailTemplate =
+                CompiledTemplateCache.getInstance().getCompiledEmailTemplate(emailTemplate);
+        PlaceholderManifest manifest = compiledEmailTemplate.getPlaceholderManifest();
+        if (templateClaimsPending) {
+            Set<String> templateClaimURIs = getTemplateClaimURIs(manifest);
+            templateClaimURIs.removeAll(fetchedClaimURIs);
+            if (!templateClaimURIs.isEmpty()) {
+                userClaims.putAll(getUserClaimValues(username, userStoreManager, userStoreDomainName, tenantDomain,
+                        templateClaimURIs.toArray(new String[0])));
+            }
+        }
+
+        // Placeholders which do not depend on the recipient are collected to render them once for bulk notifications.
+        SharedPlaceholders sharedPlaceholders =
+                RenderedTemplateCache.getInstance().isEnabled() ? new SharedPlaceholders() : null;
+
         // This is added to change the copyright year in the email templates dynamically.
         int currentYear = Calendar.getInstance().get(Calendar.YEAR);
         placeHolderData.put("current-year", String.valueOf(currentYear));
+        if (sharedPlaceholders != null) {
+            sharedPlaceholders.add("current-year");
+            sharedPlaceholders.setYear(currentYear);
+            sharedPlaceholders.setConfigurationVersion(
+                    NotificationHandlerDataHolder.getInstance().getConfigurationVersion());
+        }
 
-        NotificationUtil.getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid);
+        getPlaceholderValues(emailTemplate, manifest, placeHolderData, userClaims, applicationUuid,
+                sharedPlaceholders, null);
 
         if (StringUtils.isBlank(placeHolderData.get(ORGANIZATION_NAME_PLACEHOLDER))) {
             // If the organization display name is not configured with branding,
             // set "organization-name" placeholder to organization name.
             String organizationName = resolveHumanReadableOrganizationName(tenantDomain);
             placeHolderData.put(ORGANIZATION_NAME_PLACEHOLDER, organizationName);
+            addSharedPlaceholder(sharedPlaceholders, ORGANIZATION_NAME_PLACEHOLDER);
         }
 
         Notification.EmailNotificationBuilder builder =
                 new Notification.EmailNotificationBuilder(sendTo);
         builder.setSendFrom(sendFrom);
         builder.setTemplate(emailTemplate);
+        builder.setCompiledTemplate(compiledEmailTemplate);
         builder.setPlaceHolderData(placeHolderData);
+        if (sharedPlaceholders != null) {
+            builder.setSharedPlaceholders(IdentityTenantUtil.getTenantId(tenantDomain), applicationUuid,
+                    sharedPlaceholders);
+        }
         Notification emailNotification = builder.build();
         return emailNotification;
     }
 
+    private static Map<String, String> getUserClaimValues(String username, UserStoreManager userStoreManager,
+                                                          String userStoreDomainName, String tenantDomain,
+                                                          String[] claimURIs) throws IdentityEventException {
+
+        if (StringUtils.isNotBlank(username) && userStoreManager != null) {
+            return NotificationUtil.getUserClaimValues(username, userStoreManager, claimURIs);
+        } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(userStoreDomainName) &&
+                StringUtils.isNotBlank(tenantDomain)) {
+            return NotificationUtil.getUserClaimValues(username, userStoreDomainName, tenantDomain, claimURIs);
+        }
+        return null;
+    }
+
+    private static String[] getRecipientClaimURIs() {
+
+        return new String[]{NotificationConstants.EmailNotification.CLAIM_URI_EMAIL,
+                NotificationConstants.SMSNotification.CLAIM_URI_MOBILE,
+                NotificationConstants.EmailNotification.CLAIM_URI_LOCALE};
+    }
+
+    /**
+     * Resolve the ID of the organization of the given tenant. Resolved IDs are kept in the organization ID cache of
+     * the {@link NotificationHandlerDataHolder}.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Organization ID.
+     * @throws OrganizationManagementException Error while resolving the organization ID.
+     */
+    public static String resolveOrganizationId(String tenantDomain) throws OrganizationManagementException {
+
+        OrganizationIdCache organizationIdCache = NotificationHandlerDataHolder.getInstance().getOrganizationIdCache();
+        if (!organizationIdCache.isEnabled()) {
+            return NotificationHandlerDataHolder.getInstance().getOrganizationManager()
+                    .resolveOrganizationId(tenantDomain);
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        String organizationId = organizationIdCache.getOrganizationId(tenantId, tenantDomain);
+        if (organizationId != null) {
+            return organizationId;
+        }
+        organizationId = NotificationHandlerDataHolder.getInstance().getOrganizationManager()
+                .resolveOrganizationId(tenantDomain);
+        organizationIdCache.addOrganizationId(tenantId, tenantDomain, organizationId);
+        return organizationId;
+    }
+
+    /**
+     * Resolve the resource ID of the application with the given name. Resolved IDs, and the names which are not found,
+     * are cached when the application UUID cache is enabled.
+     *
+     * @param applicationName   Application name.
+     * @param applicationDomain Tenant domain of the application.
+     * @return Application resource ID, or null if the application can not be resolved.
+     */
+    private static String resolveApplicationUuid(String applicationName, String applicationDomain) {
+
+        ApplicationUuidCache applicationUuidCache = ApplicationUuidCache.getInstance();
+        int tenantId = INVALID_TENANT_ID;
+        if (applicationUuidCache.isEnabled()) {
+            tenantId = IdentityTenantUtil.getTenantId(applicationDomain);
+            ApplicationUuidCache.ApplicationUuid cachedApplicationUuid =
+                    applicationUuidCache.getApplicationUuid(tenantId, applicationName);
+            if (cachedApplicationUuid != null) {
+                return cachedApplicationUuid.getUuid();
+            }
+        }
+        try {
+            ApplicationBasicInfo applicationBasicInfo = NotificationHandlerDataHolder.getInstance()
+                    .getApplicationManagementService().getApplicationBasicInfoByName(applicationName,
+                            applicationDomain);
+            String applicationUuid = applicationBasicInfo != null ?
+                    applicationBasicInfo.getApplicationResourceId() : null;
+            if (applicationUuid == null) {
+                log.debug("Fallback to organization preference. Application not found for application name: " +
+                        applicationName);
+            }
+            if (tenantId != INVALID_TENANT_ID) {
+                applicationUuidCache.addApplicationUuid(tenantId, applicationName, applicationUuid);
+            }
+            return applicationUuid;
+        } catch (IdentityApplicationManagementException | NullPointerException e) {
+            // Errors are not cached, since they may not occur for the next notification.
+            log.debug("Fallback to organization preference. Error fetching application id for application name: " + applicationName, e);
+            return null;
+        }
+    }
+
     /**
      * If the tenant domain is a UUID, resolve the organization name from the associated organization resource.
      *
@@ -839,6 +1652,9 @@ public class NotificationUtil {
     public static String resolveHumanReadableOrganizationName(String tenantDomain) throws IdentityEventException {
 
         String organizationName = tenantDomain;
+        OrganizationNameCache organizationNameCache = OrganizationNameCache.getInstance();
+        int tenantId = INVALID_TENANT_ID;
+        String associatedOrganizationUUID = null;
         try {
             if (SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
                 if (Utils.isSuperOrgNameSupportedInNotificationTemplates()) {
@@ -846,14 +1662,20 @@ public class NotificationUtil {
                 }
                 return organizationName;
             }
+            tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            OrganizationNameCache.OrganizationName cachedOrganizationName =
+                    organizationNameCache.getOrganizationName(tenantId, tenantDomain);
+            if (cachedOrganizationName != null) {
+                return cachedOrganizationName.getName();
+            }
             RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
-            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
             Tenant tenant = realmService.getTenantManager().getTenant(tenantId);
-            if (tenant == null) {
-                return organizationName;
+            if (tenant != null) {
+                associatedOrganizationUUID = tenant.getAssociatedOrganizationUUID();
             }
-            String associatedOrganizationUUID = tenant.getAssociatedOrganizationUUID();
             if (StringUtils.isBlank(associatedOrganizationUUID)) {
+                // Tenants which do not represent an organization are cached as well.
+                organizationNameCache.addOrganizationName(tenantId, tenantDomain, null, organizationName);
                 return organizationName;
             }
             OrganizationManager organizationManager =
@@ -866,6 +1688,8 @@ public class NotificationUtil {
         } catch (OrganizationManagementException | UserStoreException e) {
             throw new IdentityEventException(e.getMessage(), e);
         }
+        organizationNameCache.addOrganizationName(tenantId, tenantDomain, associatedOrganizationUUID,
+                organizationName);
         return organizationName;
     }
 
@@ -29,6 +29,7 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.cache.OrganizationIdCache;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
@@ -76,10 +77,14 @@ public class PushNotificationHandlerTest {
     @Mock
     private NotificationSenderManagementService notificationSenderManagementService;
 
+    @Mock
+    private OrganizationIdCache organizationIdCache;
+
     @BeforeMethod
     public void setUp() {
 
         MockitoAnnotations.openMocks(this);
+        when(notificationHandlerDataHolder.getOrganizationIdCache()).thenReturn(organizationIdCache);
     }
 
     @Test
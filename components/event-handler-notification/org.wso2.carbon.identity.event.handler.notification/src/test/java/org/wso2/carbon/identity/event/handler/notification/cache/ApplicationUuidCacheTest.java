@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for ApplicationUuidCache class.
+ */
+public class ApplicationUuidCacheTest {
+
+    private static final String APPLICATION_UUID = "9a4d9d25-2b37-4b65-8a5e-1c7f1e0f3b5d";
+
+    private ApplicationUuidCache applicationUuidCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        applicationUuidCache = spyCache(ApplicationUuidCache.getInstance());
+        applicationUuidCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetApplicationUuid() {
+
+        applicationUuidCache.addApplicationUuid(1, "MyAccount", APPLICATION_UUID);
+        applicationUuidCache.addApplicationUuid(1, "Unknown", null);
+
+        assertEquals(applicationUuidCache.getApplicationUuid(1, "MyAccount").getUuid(), APPLICATION_UUID);
+        assertNull(applicationUuidCache.getApplicationUuid(1, "Unknown").getUuid());
+        assertNull(applicationUuidCache.getApplicationUuid(2, "MyAccount"));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        applicationUuidCache.addApplicationUuid(1, "MyAccount", APPLICATION_UUID);
+        applicationUuidCache.addApplicationUuid(1, "Console", "console-id");
+        applicationUuidCache.addApplicationUuid(2, "MyAccount", APPLICATION_UUID);
+
+        applicationUuidCache.invalidate(1, "MyAccount");
+        assertNull(applicationUuidCache.getApplicationUuid(1, "MyAccount"));
+        assertNotNull(applicationUuidCache.getApplicationUuid(1, "Console"));
+        assertNotNull(applicationUuidCache.getApplicationUuid(2, "MyAccount"));
+
+        applicationUuidCache.invalidate(1);
+        assertNull(applicationUuidCache.getApplicationUuid(1, "Console"));
+        assertNotNull(applicationUuidCache.getApplicationUuid(2, "MyAccount"));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for BrandingPreferenceCache class.
+ */
+public class BrandingPreferenceCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BrandingPreferenceCache brandingPreferenceCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        brandingPreferenceCache = spyCache(BrandingPreferenceCache.getInstance());
+        brandingPreferenceCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetSnapshot() throws Exception {
+
+        JsonNode preferences = OBJECT_MAPPER.readTree("{\"configs\":{\"isBrandingEnabled\":true}}");
+        BrandingPreferenceSnapshot snapshot = brandingPreferenceCache.addSnapshot(1, null, preferences);
+        BrandingPreferenceSnapshot appSnapshot = brandingPreferenceCache.addSnapshot(1, "app-id", null);
+
+        assertSame(brandingPreferenceCache.getSnapshot(1, null), snapshot);
+        assertSame(brandingPreferenceCache.getSnapshot(1, ""), snapshot);
+        assertSame(brandingPreferenceCache.getSnapshot(1, null).getPreferences(), preferences);
+        assertFalse(brandingPreferenceCache.getSnapshot(1, "app-id").isBrandingEnabled());
+        assertNotEquals(appSnapshot.getVersion(), snapshot.getVersion());
+        assertEquals(new BrandingPreferenceSnapshot(OBJECT_MAPPER.readTree("{\"configs\":{\"isBrandingEnabled\":true}}"))
+                .getVersion(), snapshot.getVersion());
+        assertNull(brandingPreferenceCache.getSnapshot(2, null));
+    }
+
+    @Test
+    public void testGetSnapshotOfChangedPreferences() throws Exception {
+
+        JsonNode preferences = OBJECT_MAPPER.readTree("{\"theme\":{\"activeTheme\":\"LIGHT\"}}");
+        brandingPreferenceCache.addSnapshot(1, null, preferences);
+
+        // Preferences updated through the branding component are served from the cache until it is invalidated.
+        JsonNode updatedPreferences = OBJECT_MAPPER.readTree("{\"theme\":{\"activeTheme\":\"DARK\"}}");
+        assertEquals(brandingPreferenceCache.getSnapshot(1, null).getPreferences(), preferences);
+        brandingPreferenceCache.invalidate(1, null);
+        assertNull(brandingPreferenceCache.getSnapshot(1, null));
+        brandingPreferenceCache.addSnapshot(1, null, updatedPreferences);
+        assertEquals(brandingPreferenceCache.getSnapshot(1, null).getPreferences(), updatedPreferences);
+    }
+
+    @Test
+    public void testCopyrightText() {
+
+        BrandingPreferenceSnapshot snapshot = brandingPreferenceCache.addSnapshot(1, null, null);
+        assertNull(snapshot.getCopyrightText("en_US"));
+
+        snapshot.setCopyrightText("en_US", "Copyright {{currentYear}}");
+        snapshot.setCopyrightText("fr_FR", null);
+        assertEquals(brandingPreferenceCache.getSnapshot(1, null).getCopyrightText("en_US"),
+                "Copyright {{currentYear}}");
+        assertEquals(snapshot.getCopyrightText("fr_FR"), "");
+        assertNull(snapshot.getCopyrightText(null));
+    }
+
+    @Test
+    public void testSerializedSnapshot() throws Exception {
+
+        JsonNode preferences = OBJECT_MAPPER.readTree("{\"configs\":{\"isBrandingEnabled\":true}}");
+        BrandingPreferenceSnapshot snapshot = new BrandingPreferenceSnapshot(preferences);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(snapshot);
+        }
+        BrandingPreferenceSnapshot deserializedSnapshot;
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            deserializedSnapshot = (BrandingPreferenceSnapshot) objectInputStream.readObject();
+        }
+
+        assertEquals(deserializedSnapshot.getPreferences(), preferences);
+        assertEquals(deserializedSnapshot.getVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        brandingPreferenceCache.addSnapshot(1, null, null);
+        brandingPreferenceCache.addSnapshot(1, "app-id", null);
+        brandingPreferenceCache.addSnapshot(2, "app-id", null);
+
+        brandingPreferenceCache.invalidate(2, "app-id");
+        assertNull(brandingPreferenceCache.getSnapshot(2, "app-id"));
+        assertNotNull(brandingPreferenceCache.getSnapshot(1, "app-id"));
+
+        brandingPreferenceCache.invalidate(1);
+        assertNull(brandingPreferenceCache.getSnapshot(1, null));
+        assertNull(brandingPreferenceCache.getSnapshot(1, "app-id"));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        brandingPreferenceCache.setEnabled(false);
+        brandingPreferenceCache.addSnapshot(1, null, null);
+        assertNull(brandingPreferenceCache.getSnapshot(1, null));
+    }
+}
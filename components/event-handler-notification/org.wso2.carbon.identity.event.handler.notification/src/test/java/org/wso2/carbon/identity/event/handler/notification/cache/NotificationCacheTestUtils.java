@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Utilities of the notification cache tests, which keep the entries of a cache in memory instead of the carbon
+ * caching service used by the {@link org.wso2.carbon.identity.core.cache.BaseCache}.
+ */
+public final class NotificationCacheTestUtils {
+
+    private NotificationCacheTestUtils() {
+
+    }
+
+    /**
+     * Get a spy of the given cache which keeps the entries of each tenant in a separate in memory map.
+     *
+     * @param cache Notification cache.
+     * @param <T>   Cache type.
+     * @return Spy of the given cache.
+     */
+    public static <T extends AbstractNotificationCache<?, ?>> T spyCache(T cache) {
+
+        T cacheSpy = spy(cache);
+        Map<Integer, Map<Object, Object>> tenantEntries = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            tenantEntries.computeIfAbsent(invocation.getArgument(2), tenantId -> new ConcurrentHashMap<>())
+                    .put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(cacheSpy).addToCache(any(), any(), anyInt());
+        doAnswer(invocation -> {
+            Map<Object, Object> entries = tenantEntries.get(invocation.<Integer>getArgument(1));
+            return entries == null ? null : entries.get(invocation.getArgument(0));
+        }).when(cacheSpy).getValueFromCache(any(), anyInt());
+        doAnswer(invocation -> {
+            Map<Object, Object> entries = tenantEntries.get(invocation.<Integer>getArgument(1));
+            if (entries != null) {
+                entries.remove(invocation.getArgument(0));
+            }
+            return null;
+        }).when(cacheSpy).clearCacheEntry(any(), anyInt());
+        doAnswer(invocation -> {
+            tenantEntries.remove(invocation.<Integer>getArgument(0));
+            return null;
+        }).when(cacheSpy).clear(anyInt());
+        return cacheSpy;
+    }
+}
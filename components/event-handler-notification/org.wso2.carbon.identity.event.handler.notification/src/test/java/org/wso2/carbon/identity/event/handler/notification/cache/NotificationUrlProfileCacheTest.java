@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for NotificationUrlProfileCache class.
+ */
+public class NotificationUrlProfileCacheTest {
+
+    private NotificationUrlProfileCache urlProfileCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        urlProfileCache = spyCache(NotificationUrlProfileCache.getInstance());
+        urlProfileCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetUrlProfile() {
+
+        NotificationUrlProfile urlProfile = new NotificationUrlProfile("https://localhost:9443",
+                "https://localhost:9443/t/wso2.com", "https://localhost:9443/accountrecoveryendpoint",
+                "https://localhost:9443/authenticationendpoint");
+        urlProfileCache.addUrlProfile("carbon.super", 1, urlProfile);
+
+        assertSame(urlProfileCache.getUrlProfile("carbon.super", 1), urlProfile);
+        assertNull(urlProfileCache.getUrlProfile("wso2.com", 1));
+        assertNull(urlProfileCache.getUrlProfile("carbon.super", 2));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        NotificationUrlProfile urlProfile = new NotificationUrlProfile("https://localhost:9443",
+                "https://localhost:9443", null, null);
+        urlProfileCache.addUrlProfile("carbon.super", 1, urlProfile);
+        urlProfileCache.addUrlProfile("wso2.com", 1, urlProfile);
+        urlProfileCache.addUrlProfile("carbon.super", -1234, urlProfile);
+
+        urlProfileCache.invalidate(1);
+        assertNull(urlProfileCache.getUrlProfile("carbon.super", 1));
+        assertNull(urlProfileCache.getUrlProfile("wso2.com", 1));
+        assertNotNull(urlProfileCache.getUrlProfile("carbon.super", -1234));
+    }
+}
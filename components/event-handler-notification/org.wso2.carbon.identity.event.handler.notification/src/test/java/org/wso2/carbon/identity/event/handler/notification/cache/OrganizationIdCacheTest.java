@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for OrganizationIdCache class.
+ */
+public class OrganizationIdCacheTest {
+
+    private OrganizationIdCache organizationIdCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        organizationIdCache = spyCache(new OrganizationIdCache());
+        organizationIdCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetOrganizationId() {
+
+        organizationIdCache.addOrganizationId(1, "wso2.com", "org-1");
+
+        assertEquals(organizationIdCache.getOrganizationId(1, "wso2.com"), "org-1");
+        assertNull(organizationIdCache.getOrganizationId(2, "wso2.com"));
+        assertNull(organizationIdCache.getOrganizationId(1, "abc.com"));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        organizationIdCache.addOrganizationId(1, "wso2.com", "org-1");
+        organizationIdCache.addOrganizationId(2, "abc.com", "org-2");
+
+        organizationIdCache.invalidate(1);
+        assertNull(organizationIdCache.getOrganizationId(1, "wso2.com"));
+        assertEquals(organizationIdCache.getOrganizationId(2, "abc.com"), "org-2");
+    }
+
+    @Test
+    public void testExpiredEntry() throws Exception {
+
+        organizationIdCache.setTimeToLive(1);
+        organizationIdCache.addOrganizationId(1, "wso2.com", "org-1");
+        Thread.sleep(1100);
+
+        assertNull(organizationIdCache.getOrganizationId(1, "wso2.com"));
+        assertEquals(organizationIdCache.getExpiryCount(), 1);
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        organizationIdCache.setEnabled(false);
+        organizationIdCache.addOrganizationId(1, "wso2.com", "org-1");
+        organizationIdCache.setEnabled(true);
+
+        assertNull(organizationIdCache.getOrganizationId(1, "wso2.com"));
+    }
+}
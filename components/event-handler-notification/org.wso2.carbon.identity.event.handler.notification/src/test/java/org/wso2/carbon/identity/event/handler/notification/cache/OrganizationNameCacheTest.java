@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for OrganizationNameCache class.
+ */
+public class OrganizationNameCacheTest {
+
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+
+    private OrganizationNameCache organizationNameCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        organizationNameCache = spyCache(OrganizationNameCache.getInstance());
+        organizationNameCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetOrganizationName() {
+
+        organizationNameCache.addOrganizationName(2, ORGANIZATION_ID, ORGANIZATION_ID, "Sub Org");
+        organizationNameCache.addOrganizationName(1, "wso2.com", null, "wso2.com");
+
+        assertEquals(organizationNameCache.getOrganizationName(2, ORGANIZATION_ID).getName(), "Sub Org");
+        assertEquals(organizationNameCache.getOrganizationName(1, "wso2.com").getName(), "wso2.com");
+        assertNull(organizationNameCache.getOrganizationName(1, "wso2.com").getOrganizationId());
+        assertNull(organizationNameCache.getOrganizationName(3, "abc.com"));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        organizationNameCache.addOrganizationName(2, ORGANIZATION_ID, ORGANIZATION_ID, "Sub Org");
+        organizationNameCache.addOrganizationName(1, "wso2.com", null, "wso2.com");
+
+        organizationNameCache.invalidate(2);
+        assertNull(organizationNameCache.getOrganizationName(2, ORGANIZATION_ID));
+        assertNotNull(organizationNameCache.getOrganizationName(1, "wso2.com"));
+    }
+}
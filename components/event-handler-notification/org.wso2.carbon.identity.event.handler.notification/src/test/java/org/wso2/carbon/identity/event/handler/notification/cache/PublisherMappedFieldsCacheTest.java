@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Class that contains the test cases for PublisherMappedFieldsCache class.
+ */
+public class PublisherMappedFieldsCacheTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String STREAM_ID = "id_gov_notify_stream:1.0.0";
+
+    private PublisherMappedFieldsCache publisherMappedFieldsCache;
+    private AtomicInteger listCount;
+    private AtomicInteger resolveCount;
+    private Function<List<EventPublisherConfiguration>, Set<String>> resolver;
+
+    @BeforeMethod
+    public void setUp() {
+
+        publisherMappedFieldsCache = PublisherMappedFieldsCache.getInstance();
+        publisherMappedFieldsCache.clear();
+        listCount = new AtomicInteger();
+        resolveCount = new AtomicInteger();
+        resolver = configurations -> {
+            resolveCount.incrementAndGet();
+            return Collections.singleton("body");
+        };
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        publisherMappedFieldsCache.setTimeToLive(PublisherMappedFieldsCache.DEFAULT_TIME_TO_LIVE_SECONDS);
+    }
+
+    @Test
+    public void testGetMappedFields() {
+
+        List<EventPublisherConfiguration> configurations = Arrays.asList(new EventPublisherConfiguration(),
+                new EventPublisherConfiguration());
+
+        assertEquals(publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations), resolver),
+                Collections.singleton("body"));
+        assertEquals(publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations), resolver),
+                Collections.singleton("body"));
+        // Cached fields are used without listing the active publishers.
+        assertEquals(listCount.get(), 1);
+        assertEquals(resolveCount.get(), 1);
+
+        // Fields are cached per tenant and stream.
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, "other_stream:1.0.0", list(configurations), resolver);
+        publisherMappedFieldsCache.getMappedFields(2, STREAM_ID, list(configurations), resolver);
+        assertEquals(resolveCount.get(), 3);
+    }
+
+    @Test
+    public void testGetExpiredMappedFields() throws Exception {
+
+        EventPublisherConfiguration smsPublisher = new EventPublisherConfiguration();
+        EventPublisherConfiguration emailPublisher = new EventPublisherConfiguration();
+        publisherMappedFieldsCache.setTimeToLive(1);
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID,
+                list(Arrays.asList(smsPublisher, emailPublisher)), resolver);
+        Thread.sleep(1100);
+
+        // Expired fields are renewed while the active publishers are the same configuration instances.
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID,
+                list(Arrays.asList(smsPublisher, emailPublisher)), resolver);
+        assertEquals(listCount.get(), 2);
+        assertEquals(resolveCount.get(), 1);
+        Thread.sleep(1100);
+
+        // A publisher deployed again replaces its configuration instance.
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID,
+                list(Arrays.asList(smsPublisher, new EventPublisherConfiguration())), resolver);
+        assertEquals(resolveCount.get(), 2);
+        Thread.sleep(1100);
+
+        // An undeployed publisher is removed from the active configurations.
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID,
+                list(Collections.singletonList(smsPublisher)), resolver);
+        assertEquals(resolveCount.get(), 3);
+    }
+
+    @Test
+    public void testGetMappedFieldsOfUnlistedPublishers() {
+
+        assertNull(publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(null), resolver));
+        assertEquals(resolveCount.get(), 0);
+
+        // Publishers which could not be listed are listed again for the next event.
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID,
+                list(Collections.singletonList(new EventPublisherConfiguration())), resolver);
+        assertEquals(listCount.get(), 2);
+        assertEquals(resolveCount.get(), 1);
+    }
+
+    @Test
+    public void testGetUndeterminedMappedFields() {
+
+        List<EventPublisherConfiguration> configurations =
+                Collections.singletonList(new EventPublisherConfiguration());
+        Function<List<EventPublisherConfiguration>, Set<String>> undeterminedResolver = publisherConfigurations -> {
+            resolveCount.incrementAndGet();
+            return null;
+        };
+
+        assertNull(publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations),
+                undeterminedResolver));
+        assertNull(publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations),
+                undeterminedResolver));
+        assertEquals(resolveCount.get(), 1);
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        List<EventPublisherConfiguration> configurations =
+                Collections.singletonList(new EventPublisherConfiguration());
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations), resolver);
+        publisherMappedFieldsCache.getMappedFields(2, STREAM_ID, list(configurations), resolver);
+
+        publisherMappedFieldsCache.invalidate(TENANT_ID);
+        publisherMappedFieldsCache.getMappedFields(TENANT_ID, STREAM_ID, list(configurations), resolver);
+        publisherMappedFieldsCache.getMappedFields(2, STREAM_ID, list(configurations), resolver);
+        assertEquals(resolveCount.get(), 3);
+    }
+
+    private Supplier<List<EventPublisherConfiguration>> list(List<EventPublisherConfiguration> configurations) {
+
+        return () -> {
+            listCount.incrementAndGet();
+            return configurations;
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for UserClaimCache class.
+ */
+public class UserClaimCacheTest {
+
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String MOBILE_CLAIM_URI = "http://wso2.org/claims/mobile";
+    private static final String[] CLAIM_URIS = {EMAIL_CLAIM_URI, MOBILE_CLAIM_URI};
+
+    private UserClaimCache userClaimCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        userClaimCache = spyCache(UserClaimCache.getInstance());
+        userClaimCache.setEnabled(true);
+    }
+
+    @Test
+    public void testGetClaimValues() {
+
+        userClaimCache.addClaimValues(1, "PRIMARY", "alex", CLAIM_URIS,
+                Collections.singletonMap(EMAIL_CLAIM_URI, "alex@wso2.com"));
+
+        Map<String, String> claimValues = userClaimCache.getClaimValues(1, "PRIMARY", "alex",
+                new String[]{MOBILE_CLAIM_URI, EMAIL_CLAIM_URI});
+        assertNotNull(claimValues);
+        assertEquals(claimValues.get(EMAIL_CLAIM_URI), "alex@wso2.com");
+        // Returned values can be modified by the caller.
+        claimValues.put("http://wso2.org/claims/locale", "en_US");
+
+        assertEquals(userClaimCache.getClaimValues(1, "PRIMARY", "alex", CLAIM_URIS).size(), 1);
+        assertNull(userClaimCache.getClaimValues(1, "PRIMARY", "alex", null));
+        assertNull(userClaimCache.getClaimValues(2, "PRIMARY", "alex", CLAIM_URIS));
+        assertTrue(userClaimCache.getHitRatio() > 0);
+    }
+
+    @Test
+    public void testGetSubsetOfClaimValues() {
+
+        Map<String, String> allClaimValues = new HashMap<>();
+        allClaimValues.put(EMAIL_CLAIM_URI, "alex@wso2.com");
+        allClaimValues.put(MOBILE_CLAIM_URI, "0771234567");
+        userClaimCache.addClaimValues(1, "PRIMARY", "alex", null, allClaimValues);
+
+        Map<String, String> claimValues = userClaimCache.getClaimValues(1, "PRIMARY", "alex",
+                new String[]{EMAIL_CLAIM_URI});
+        assertEquals(claimValues, Collections.singletonMap(EMAIL_CLAIM_URI, "alex@wso2.com"));
+        assertEquals(userClaimCache.getClaimValues(1, "PRIMARY", "alex", null), allClaimValues);
+    }
+
+    @Test
+    public void testUserStoreDomainAndUserName() {
+
+        userClaimCache.addClaimValues(1, "SECONDARY", "alex", null,
+                Collections.singletonMap(EMAIL_CLAIM_URI, "alex@abc.com"));
+
+        // User store domains are case insensitive, while usernames are matched as they are.
+        assertNotNull(userClaimCache.getClaimValues(1, "secondary", "alex", CLAIM_URIS));
+        assertNull(userClaimCache.getClaimValues(1, "SECONDARY", "Alex", CLAIM_URIS));
+        assertNull(userClaimCache.getClaimValues(1, "PRIMARY", "alex", CLAIM_URIS));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        userClaimCache.addClaimValues(1, "PRIMARY", "alex", CLAIM_URIS, Collections.emptyMap());
+        userClaimCache.addClaimValues(1, "PRIMARY", "kim", null, Collections.emptyMap());
+        userClaimCache.addClaimValues(2, "PRIMARY", "alex", null, Collections.emptyMap());
+
+        userClaimCache.invalidate(1, "primary", "alex");
+        assertNull(userClaimCache.getClaimValues(1, "PRIMARY", "alex", CLAIM_URIS));
+        assertNotNull(userClaimCache.getClaimValues(1, "PRIMARY", "kim", null));
+
+        userClaimCache.invalidate(1);
+        assertNull(userClaimCache.getClaimValues(1, "PRIMARY", "kim", null));
+        assertNotNull(userClaimCache.getClaimValues(2, "PRIMARY", "alex", null));
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Class that contains the test cases for NotificationDispatcher class.
+ */
+public class NotificationDispatcherTest {
+
+    private static final String EVENT_NAME = "TRIGGER_NOTIFICATION";
+    private static final String FAILING_EVENT_NAME = "TRIGGER_SMS_NOTIFICATION";
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private NotificationDispatcher notificationDispatcher;
+    private ExecutorService callerExecutor;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (notificationDispatcher != null) {
+            notificationDispatcher.shutdown();
+            notificationDispatcher = null;
+        }
+        if (callerExecutor != null) {
+            callerExecutor.shutdownNow();
+            callerExecutor = null;
+        }
+    }
+
+    @Test
+    public void testDispatchWaitsForQueuePermitWithinMaxWait() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.REJECT);
+        notificationDispatcher.setMaxWait(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(3);
+        NotificationEventProcessor processor = event -> {
+            started.countDown();
+            await(release);
+            processed.countDown();
+        };
+
+        // The first notification occupies the worker and the second one fills the queue.
+        notificationDispatcher.dispatch(createSnapshot(), processor);
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        notificationDispatcher.dispatch(createSnapshot(), processor);
+
+        callerExecutor = Executors.newSingleThreadExecutor();
+        Future<?> waitingDispatch = callerExecutor.submit(() -> {
+            notificationDispatcher.dispatch(createSnapshot(), processor);
+            return null;
+        });
+        Thread.sleep(200);
+        assertFalse(waitingDispatch.isDone(), "Dispatch should wait for a queue permit.");
+
+        release.countDown();
+        waitingDispatch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(notificationDispatcher.getDispatchedCount(), 3);
+        assertEquals(notificationDispatcher.getOverflowCount(), 0);
+    }
+
+    @Test
+    public void testOverflowPolicyAppliedAfterMaxWait() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.REJECT);
+        notificationDispatcher.setMaxWait(100);
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationEventProcessor processor = event -> await(release);
+        notificationDispatcher.dispatch(createSnapshot(), processor);
+        notificationDispatcher.dispatch(createSnapshot(), processor);
+
+        long start = System.nanoTime();
+        try {
+            notificationDispatcher.dispatch(createSnapshot(), processor);
+            fail("Dispatch should be rejected once the maximum wait is over.");
+        } catch (IdentityEventException e) {
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        } finally {
+            release.countDown();
+        }
+        assertEquals(notificationDispatcher.getOverflowCount(), 1);
+    }
+
+    @Test
+    public void testCallerRunsPolicyProcessesInCallerThread() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        fillDispatcher(release);
+
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+        try {
+            notificationDispatcher.dispatch(createSnapshot(), event -> processingThread.set(Thread.currentThread()));
+        } finally {
+            release.countDown();
+        }
+        assertSame(processingThread.get(), Thread.currentThread());
+        assertEquals(notificationDispatcher.getOverflowCount(), 1);
+    }
+
+    @Test
+    public void testDiscardPolicyDropsNotification() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.DISCARD);
+        CountDownLatch release = new CountDownLatch(1);
+        fillDispatcher(release);
+
+        AtomicBoolean processed = new AtomicBoolean();
+        try {
+            notificationDispatcher.dispatch(createSnapshot(), event -> processed.set(true));
+        } finally {
+            release.countDown();
+        }
+        notificationDispatcher.shutdown();
+        assertFalse(processed.get(), "Discarded notification should not be processed.");
+        assertEquals(notificationDispatcher.getDispatchedCount(), 2);
+        assertEquals(notificationDispatcher.getOverflowCount(), 1);
+    }
+
+    @Test(expectedExceptions = IdentityEventException.class)
+    public void testRejectPolicyThrowsException() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(1, 1, OverflowPolicy.REJECT);
+        CountDownLatch release = new CountDownLatch(1);
+        fillDispatcher(release);
+        try {
+            notificationDispatcher.dispatch(createSnapshot(), event -> {
+            });
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testFailuresAreCountedAgainstEventName() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(10, 1, OverflowPolicy.REJECT);
+        NotificationEventProcessor processor = event -> {
+            if (FAILING_EVENT_NAME.equals(event.getEventName())) {
+                throw new IdentityEventException("Error while sending the notification.");
+            }
+        };
+        notificationDispatcher.dispatch(createSnapshotOfEvent(FAILING_EVENT_NAME), processor);
+        notificationDispatcher.dispatch(createSnapshotOfEvent(FAILING_EVENT_NAME), processor);
+        notificationDispatcher.dispatch(createSnapshot(), processor);
+        notificationDispatcher.shutdown();
+
+        assertEquals(notificationDispatcher.getFailedCount(), 2);
+        assertEquals(notificationDispatcher.getFailedCount(FAILING_EVENT_NAME), 2);
+        assertEquals(notificationDispatcher.getFailedCount(EVENT_NAME), 0);
+        assertEquals(notificationDispatcher.getFailedCounts(),
+                Collections.singletonMap(FAILING_EVENT_NAME, 2L));
+    }
+
+    @Test
+    public void testTenantPermitIsRemovedOnceTenantIsIdle() throws Exception {
+
+        notificationDispatcher = NotificationDispatcher.withVirtualThreads(10, 1, 2, OverflowPolicy.REJECT);
+        if (!notificationDispatcher.isVirtualThreadsEnabled()) {
+            // Virtual threads are not supported by the runtime running the tests.
+            return;
+        }
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(3);
+        NotificationEventProcessor processor = event -> {
+            started.countDown();
+            await(release);
+            processed.countDown();
+        };
+        for (int i = 0; i < 3; i++) {
+            notificationDispatcher.dispatch(createSnapshot(TENANT_DOMAIN), processor);
+        }
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(notificationDispatcher.getInProgressCount(TENANT_DOMAIN), 2);
+        assertEquals(notificationDispatcher.getActiveTenantCount(), 1);
+
+        release.countDown();
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (notificationDispatcher.getActiveTenantCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(notificationDispatcher.getActiveTenantCount(), 0);
+        assertEquals(notificationDispatcher.getInProgressCount(TENANT_DOMAIN), 0);
+    }
+
+    static NotificationEventSnapshot createSnapshot(String tenantDomain) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain);
+            return createSnapshot();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    static NotificationEventSnapshot createSnapshot() {
+
+        return createSnapshotOfEvent(EVENT_NAME);
+    }
+
+    private static NotificationEventSnapshot createSnapshotOfEvent(String eventName) {
+
+        return NotificationEventSnapshot.capture(new Event(eventName, new HashMap<>()));
+    }
+
+    private void fillDispatcher(CountDownLatch release) throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        notificationDispatcher.dispatch(createSnapshot(), event -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        notificationDispatcher.dispatch(createSnapshot(), event -> await(release));
+    }
+
+    static void await(CountDownLatch latch) throws IdentityEventException {
+
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IdentityEventException("Timed out while waiting for the test latch.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityEventException("Interrupted while waiting for the test latch.", e);
+        }
+    }
+}
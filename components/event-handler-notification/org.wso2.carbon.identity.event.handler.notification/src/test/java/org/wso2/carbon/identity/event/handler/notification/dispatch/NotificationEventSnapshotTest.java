@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Class that contains the test cases for NotificationEventSnapshot class.
+ */
+public class NotificationEventSnapshotTest {
+
+    private static final String EVENT_NAME = "TRIGGER_NOTIFICATION";
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final int TENANT_ID = 2;
+    private static final String USERNAME = "admin";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityUtil.threadLocalProperties.get().remove(NotificationConstants.USER_IDENTITY_CLAIMS);
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Test
+    public void testCaptureCopiesEventProperties() {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(NotificationConstants.TEMPLATE_TYPE, "passwordReset");
+        Event event = new Event(EVENT_NAME, properties);
+        NotificationEventSnapshot snapshot = NotificationEventSnapshot.capture(event);
+
+        // Changes done to the event after the snapshot is taken do not affect the snapshot.
+        properties.put(NotificationConstants.TEMPLATE_TYPE, "accountLock");
+        assertEquals(snapshot.getEventProperty(NotificationConstants.TEMPLATE_TYPE), "passwordReset");
+
+        Event copy = snapshot.toEvent();
+        copy.getEventProperties().put(NotificationConstants.TEMPLATE_TYPE, "accountLock");
+        assertEquals(copy.getEventName(), EVENT_NAME);
+        assertEquals(snapshot.toEvent().getEventProperties().get(NotificationConstants.TEMPLATE_TYPE),
+                "passwordReset");
+    }
+
+    @Test
+    public void testProcessPropagatesTenantContextAndUserIdentityClaims() throws Exception {
+
+        Map<String, String> userIdentityClaims =
+                Collections.singletonMap("http://wso2.org/claims/identity/accountLocked", "true");
+        NotificationEventSnapshot snapshot;
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(TENANT_DOMAIN);
+            carbonContext.setTenantId(TENANT_ID);
+            carbonContext.setUsername(USERNAME);
+            IdentityUtil.threadLocalProperties.get().put(NotificationConstants.USER_IDENTITY_CLAIMS,
+                    userIdentityClaims);
+            snapshot = NotificationEventSnapshot.capture(new Event(EVENT_NAME, new HashMap<>()));
+        } finally {
+            IdentityUtil.threadLocalProperties.get().remove(NotificationConstants.USER_IDENTITY_CLAIMS);
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        assertEquals(snapshot.getTenantDomain(), TENANT_DOMAIN);
+
+        executor = Executors.newSingleThreadExecutor();
+        Object[] processingContext = executor.submit(() -> {
+            Object[] context = new Object[5];
+            snapshot.process(event -> {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                context[0] = carbonContext.getTenantDomain();
+                context[1] = carbonContext.getTenantId();
+                context[2] = carbonContext.getUsername();
+                context[3] = IdentityUtil.threadLocalProperties.get().get(NotificationConstants.USER_IDENTITY_CLAIMS);
+            });
+            // The thread local properties of the worker are cleared once the event is processed.
+            context[4] = IdentityUtil.threadLocalProperties.get().get(NotificationConstants.USER_IDENTITY_CLAIMS);
+            return context;
+        }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(processingContext[0], TENANT_DOMAIN);
+        assertEquals(processingContext[1], TENANT_ID);
+        assertEquals(processingContext[2], USERNAME);
+        assertEquals(processingContext[3], userIdentityClaims);
+        assertNull(processingContext[4]);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Class that contains the test cases for OverflowPolicy class.
+ */
+public class OverflowPolicyTest {
+
+    @Test
+    public void testFromName() {
+
+        assertEquals(OverflowPolicy.fromName("discard", OverflowPolicy.CALLER_RUNS), OverflowPolicy.DISCARD);
+        assertEquals(OverflowPolicy.fromName(" REJECT ", OverflowPolicy.CALLER_RUNS), OverflowPolicy.REJECT);
+        assertEquals(OverflowPolicy.fromName("invalid", OverflowPolicy.CALLER_RUNS), OverflowPolicy.CALLER_RUNS);
+        assertEquals(OverflowPolicy.fromName(null, OverflowPolicy.DISCARD), OverflowPolicy.DISCARD);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcherTest.await;
+import static org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcherTest.createSnapshot;
+
+/**
+ * Class that contains the test cases for PriorityLaneDispatcher class.
+ */
+public class PriorityLaneDispatcherTest {
+
+    private static final long CRITICAL_MAX_WAIT_MILLIS = 200;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private PriorityLaneDispatcher priorityLaneDispatcher;
+    private CountDownLatch release;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        Map<NotificationPriority, NotificationDispatcher> lanes = new EnumMap<>(NotificationPriority.class);
+        lanes.put(NotificationPriority.CRITICAL, new NotificationDispatcher(1, 1, OverflowPolicy.CALLER_RUNS));
+        lanes.put(NotificationPriority.INTERACTIVE, new NotificationDispatcher(1, 1, OverflowPolicy.REJECT));
+        lanes.put(NotificationPriority.BULK, new NotificationDispatcher(1, 1, OverflowPolicy.REJECT));
+        lanes.get(NotificationPriority.CRITICAL).setMaxWait(CRITICAL_MAX_WAIT_MILLIS);
+        priorityLaneDispatcher = new PriorityLaneDispatcher(lanes);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        release.countDown();
+        priorityLaneDispatcher.shutdown();
+    }
+
+    @Test
+    public void testCriticalLaneIsNotDelayedByFullBulkLane() throws Exception {
+
+        fillLane(NotificationPriority.BULK);
+        try {
+            priorityLaneDispatcher.dispatch(createSnapshot(), NotificationPriority.BULK, event -> {
+            });
+            fail("Bulk lane should reject the notification once it is full.");
+        } catch (IdentityEventException e) {
+            // Expected, since the bulk lane is full.
+        }
+
+        CountDownLatch processed = new CountDownLatch(1);
+        long start = System.nanoTime();
+        priorityLaneDispatcher.dispatch(createSnapshot(), NotificationPriority.CRITICAL,
+                event -> processed.countDown());
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < CRITICAL_MAX_WAIT_MILLIS);
+        assertEquals(priorityLaneDispatcher.getLane(NotificationPriority.CRITICAL).getOverflowCount(), 0);
+    }
+
+    @Test
+    public void testCriticalNotificationWaitsAtMostMaxWait() throws Exception {
+
+        fillLane(NotificationPriority.BULK);
+        fillLane(NotificationPriority.CRITICAL);
+
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+        long start = System.nanoTime();
+        priorityLaneDispatcher.dispatch(createSnapshot(), NotificationPriority.CRITICAL,
+                event -> processingThread.set(Thread.currentThread()));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The critical lane is full, hence the notification is processed in the caller thread after the maximum wait.
+        assertSame(processingThread.get(), Thread.currentThread());
+        assertTrue(waitedMillis >= CRITICAL_MAX_WAIT_MILLIS);
+        assertTrue(waitedMillis < TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertEquals(priorityLaneDispatcher.getLane(NotificationPriority.CRITICAL).getOverflowCount(), 1);
+    }
+
+    private void fillLane(NotificationPriority priority) throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        priorityLaneDispatcher.dispatch(createSnapshot(), priority, event -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        priorityLaneDispatcher.dispatch(createSnapshot(), priority, event -> await(release));
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcherTest.await;
+
+/**
+ * Class that contains the test cases for TenantFairScheduler class.
+ */
+public class TenantFairSchedulerTest {
+
+    private static final String EVENT_NAME = "TRIGGER_NOTIFICATION";
+    private static final String BLOCKING_TENANT = "blocking.com";
+    private static final String HEAVY_TENANT = "heavy.com";
+    private static final String LIGHT_TENANT = "light.com";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private TenantFairScheduler tenantFairScheduler;
+    private CountDownLatch release;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (release != null) {
+            release.countDown();
+        }
+        if (tenantFairScheduler != null) {
+            tenantFairScheduler.shutdown();
+            tenantFairScheduler = null;
+        }
+    }
+
+    @Test
+    public void testTenantsShareWorkersByWeight() throws Exception {
+
+        Map<String, TenantSchedulingConfig> tenantConfigs = new HashMap<>();
+        tenantConfigs.put(HEAVY_TENANT, new TenantSchedulingConfig(3, 1));
+        tenantConfigs.put(LIGHT_TENANT, new TenantSchedulingConfig(1, 1));
+        tenantFairScheduler = new TenantFairScheduler(1, 100, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 1), tenantConfigs);
+        blockWorkers(1);
+
+        List<String> processedTenants = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch processed = new CountDownLatch(16);
+        NotificationEventProcessor processor = event -> {
+            processedTenants.add((String) event.getEventProperties().get(NotificationConstants.TENANT_DOMAIN));
+            processed.countDown();
+        };
+        for (int i = 0; i < 8; i++) {
+            tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), processor);
+            tenantFairScheduler.schedule(createSnapshot(LIGHT_TENANT), processor);
+        }
+        release.countDown();
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // While both tenants are busy, the tenant with weight 3 gets three turns for each turn of the other tenant.
+        assertEquals(Collections.frequency(processedTenants.subList(0, 8), HEAVY_TENANT), 6);
+    }
+
+    @Test
+    public void testTenantDoesNotExceedMaxConcurrency() throws Exception {
+
+        tenantFairScheduler = new TenantFairScheduler(4, 100, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 4),
+                Collections.singletonMap(HEAVY_TENANT, new TenantSchedulingConfig(1, 1)));
+        release = new CountDownLatch(1);
+        AtomicInteger heavyInProgress = new AtomicInteger();
+        AtomicInteger heavyMaxInProgress = new AtomicInteger();
+        CountDownLatch heavyStarted = new CountDownLatch(1);
+        NotificationEventProcessor heavyProcessor = event -> {
+            heavyMaxInProgress.accumulateAndGet(heavyInProgress.incrementAndGet(), Math::max);
+            heavyStarted.countDown();
+            await(release);
+            heavyInProgress.decrementAndGet();
+        };
+        for (int i = 0; i < 3; i++) {
+            tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), heavyProcessor);
+        }
+        assertTrue(heavyStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // The other workers are free for the other tenants while the heavy tenant is at its maximum concurrency.
+        CountDownLatch lightProcessed = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            tenantFairScheduler.schedule(createSnapshot(LIGHT_TENANT), event -> lightProcessed.countDown());
+        }
+        assertTrue(lightProcessed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        TenantFairScheduler.TenantStats heavyStats = tenantFairScheduler.getTenantStats(HEAVY_TENANT);
+        assertEquals(heavyStats.getInProgressCount(), 1);
+        assertEquals(heavyStats.getQueueDepth(), 2);
+
+        release.countDown();
+        tenantFairScheduler.shutdown();
+        assertEquals(heavyMaxInProgress.get(), 1);
+    }
+
+    @Test
+    public void testCriticalEventsAreProcessedFirst() throws Exception {
+
+        tenantFairScheduler = new TenantFairScheduler(1, 100, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 1), Collections.emptyMap());
+        blockWorkers(1);
+
+        List<String> processedEvents = Collections.synchronizedList(new ArrayList<>());
+        NotificationEventProcessor processor = event -> processedEvents.add(event.getEventName());
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT, "BULK"), NotificationPriority.BULK, processor);
+        tenantFairScheduler.schedule(createSnapshot(LIGHT_TENANT, "INTERACTIVE"), NotificationPriority.INTERACTIVE,
+                processor);
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT, "CRITICAL"), NotificationPriority.CRITICAL,
+                processor);
+        release.countDown();
+        tenantFairScheduler.shutdown();
+
+        assertEquals(processedEvents.subList(0, 3), Arrays.asList("CRITICAL", "INTERACTIVE", "BULK"));
+    }
+
+    @Test
+    public void testFullBulkQueueDoesNotBlockCriticalEvents() throws Exception {
+
+        tenantFairScheduler = new TenantFairScheduler(1, 1, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 1), Collections.emptyMap());
+        blockWorkers(1);
+
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), NotificationPriority.BULK, event -> {
+        });
+        try {
+            tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), NotificationPriority.BULK, event -> {
+            });
+            fail("Bulk event should be rejected once the bulk queue of the tenant is full.");
+        } catch (IdentityEventException e) {
+            // Expected, since the bulk queue of the tenant is full.
+        }
+        CountDownLatch criticalProcessed = new CountDownLatch(1);
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), NotificationPriority.CRITICAL,
+                event -> criticalProcessed.countDown());
+        assertEquals(tenantFairScheduler.getTenantStats(HEAVY_TENANT).getOverflowCount(), 1);
+
+        release.countDown();
+        assertTrue(criticalProcessed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIdleTenantStatsAreKept() throws Exception {
+
+        tenantFairScheduler = new TenantFairScheduler(2, 100, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 2), Collections.emptyMap());
+        CountDownLatch processed = new CountDownLatch(4);
+        for (int i = 0; i < 2; i++) {
+            tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), event -> processed.countDown());
+            tenantFairScheduler.schedule(createSnapshot(LIGHT_TENANT), event -> processed.countDown());
+        }
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        awaitProcessed(HEAVY_TENANT, 2);
+
+        // The counters of the tenant are kept once it is idle, and are cumulative across the bursts.
+        assertEquals(tenantFairScheduler.getTenantStats().keySet(), new HashSet<>(Arrays.asList(HEAVY_TENANT,
+                LIGHT_TENANT)));
+        assertEquals(tenantFairScheduler.getTenantStats(HEAVY_TENANT).getInProgressCount(), 0);
+        assertEquals(tenantFairScheduler.getTenantStats(HEAVY_TENANT).getQueueDepth(), 0);
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), event -> {
+            throw new IdentityEventException("Notification failed.");
+        });
+        awaitProcessed(HEAVY_TENANT, 3);
+        assertEquals(tenantFairScheduler.getTenantStats(HEAVY_TENANT).getFailedCount(), 1);
+        assertNull(tenantFairScheduler.getTenantStats(BLOCKING_TENANT));
+    }
+
+    @Test
+    public void testWorkerSurvivesInterrupt() throws Exception {
+
+        tenantFairScheduler = new TenantFairScheduler(1, 100, OverflowPolicy.REJECT,
+                new TenantSchedulingConfig(1, 1), Collections.emptyMap());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        tenantFairScheduler.schedule(createSnapshot(HEAVY_TENANT), event -> {
+            Thread.currentThread().interrupt();
+            interrupted.countDown();
+        });
+        assertTrue(interrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        CountDownLatch processed = new CountDownLatch(1);
+        tenantFairScheduler.schedule(createSnapshot(LIGHT_TENANT), event -> processed.countDown());
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Interrupted worker should keep running.");
+    }
+
+    private void awaitProcessed(String tenantDomain, long processedCount) throws Exception {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (tenantFairScheduler.getTenantStats(tenantDomain).getProcessedCount() < processedCount &&
+                System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(tenantFairScheduler.getTenantStats(tenantDomain).getProcessedCount(), processedCount);
+    }
+
+    private void blockWorkers(int workerCount) throws Exception {
+
+        release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            tenantFairScheduler.schedule(createSnapshot(BLOCKING_TENANT + i), NotificationPriority.CRITICAL,
+                    event -> {
+                        started.countDown();
+                        await(release);
+                    });
+        }
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static NotificationEventSnapshot createSnapshot(String tenantDomain) {
+
+        return createSnapshot(tenantDomain, EVENT_NAME);
+    }
+
+    private static NotificationEventSnapshot createSnapshot(String tenantDomain, String eventName) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(NotificationConstants.TENANT_DOMAIN, tenantDomain);
+        return NotificationEventSnapshot.capture(new Event(eventName, properties));
+    }
+}
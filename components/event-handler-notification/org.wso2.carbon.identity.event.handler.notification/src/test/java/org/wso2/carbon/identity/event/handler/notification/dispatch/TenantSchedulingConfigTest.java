@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Class that contains the test cases for TenantSchedulingConfig class.
+ */
+public class TenantSchedulingConfigTest {
+
+    @Test
+    public void testParseTenantConfigs() {
+
+        Map<String, TenantSchedulingConfig> tenantConfigs = TenantSchedulingConfig.parseTenantConfigs(
+                "wso2.com=4/10, abc.com=1/2,invalid.com=3,zero.com=0/5,text.com=a/1");
+
+        assertEquals(tenantConfigs.size(), 2);
+        assertEquals(tenantConfigs.get("wso2.com").getWeight(), 4);
+        assertEquals(tenantConfigs.get("wso2.com").getMaxConcurrency(), 10);
+        assertEquals(tenantConfigs.get("abc.com").getWeight(), 1);
+        assertFalse(tenantConfigs.containsKey("zero.com"));
+        assertTrue(TenantSchedulingConfig.parseTenantConfigs(" ").isEmpty());
+    }
+}
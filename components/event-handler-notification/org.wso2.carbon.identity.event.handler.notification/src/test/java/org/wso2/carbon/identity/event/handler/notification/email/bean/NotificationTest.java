@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.email.bean;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Class that contains the test cases for Notification class.
+ */
+public class NotificationTest {
+
+    @Test
+    public void testNotificationParts() {
+
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setSubject("Welcome {{user-name}}");
+        emailTemplate.setBody("Hi {{user-name}}, visit {{url:tenant-domain}}.");
+        emailTemplate.setLocale("en_US");
+
+        Map<String, String> placeHolderData = new HashMap<>();
+        placeHolderData.put("user-name", "john");
+        placeHolderData.put("tenant-domain", "wso2 com");
+
+        Notification.EmailNotificationBuilder builder = new Notification.EmailNotificationBuilder("john@wso2.com");
+        builder.setTemplate(emailTemplate);
+        builder.setPlaceHolderData(placeHolderData);
+        Notification notification = builder.build();
+
+        // Parts are rendered with the placeholder data available when the notification was built.
+        placeHolderData.put("user-name", "jane");
+        assertEquals(notification.getSubject(), "Welcome john");
+        assertEquals(notification.getBody(), "Hi john, visit wso2+com.");
+        assertNull(notification.getFooter());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Class that contains the test cases for CompiledPushNotificationTemplate class.
+ */
+public class CompiledPushNotificationTemplateTest {
+
+    @Test
+    public void testGetTemplate() {
+
+        for (NotificationConstants.PushNotificationTemplate template :
+                NotificationConstants.PushNotificationTemplate.values()) {
+            CompiledPushNotificationTemplate compiledTemplate =
+                    CompiledPushNotificationTemplate.getTemplate(template.getScenario());
+            assertNotNull(compiledTemplate);
+            assertEquals(compiledTemplate.getTitle().getContent(), template.getTitle());
+            assertEquals(compiledTemplate.getBody().getContent(), template.getBody());
+            assertNull(compiledTemplate.getInvalidPlaceholder());
+        }
+        assertNull(CompiledPushNotificationTemplate.getTemplate("UNKNOWN_SCENARIO"));
+        assertNull(CompiledPushNotificationTemplate.getTemplate(null));
+    }
+
+    @Test
+    public void testGetPlaceholderValues() {
+
+        CompiledPushNotificationTemplate template = CompiledPushNotificationTemplate.getTemplate(
+                NotificationConstants.PushNotificationTemplate.AUTHENTICATION.getScenario());
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put("user-name", "john");
+        eventProperties.put("tenant-domain", "carbon.super");
+
+        Map<String, String> placeholderValues = template.getPlaceholderValues(eventProperties);
+        assertEquals(placeholderValues.get("user-name"), "john");
+        assertTrue(placeholderValues.containsKey("organization-name"));
+        assertNull(placeholderValues.get("organization-name"));
+        assertEquals(template.getBody().render(placeholderValues), "john from {{organization-name}} is trying to login");
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for RenderedTemplateCache class.
+ */
+public class RenderedTemplateCacheTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final String TEMPLATE = "<div style=\"color: {{primary-color}}\">Hi {{user-name}},</div>" +
+            "<a href=\"{{carbon.product-url}}/reset?user={{url:user-name}}&tenant={{url:tenant-domain}}\">Reset</a>" +
+            "<p>{{unknown}}</p>";
+    private static final CompiledTemplate COMPILED_TEMPLATE = TemplateCompiler.compile(TEMPLATE);
+
+    private RenderedTemplateCache renderedTemplateCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        renderedTemplateCache = spyCache(RenderedTemplateCache.getInstance());
+        renderedTemplateCache.setEnabled(true);
+    }
+
+    @Test
+    public void testRenderReusesSharedPlaceholders() {
+
+        long hitCount = renderedTemplateCache.getHitCount();
+        long missCount = renderedTemplateCache.getMissCount();
+
+        for (String userName : new String[]{"john", "jane doe", "bob+1"}) {
+            Map<String, String> placeholderValues = getPlaceholderValues(userName, "#FF7300");
+            assertEquals(renderedTemplateCache.render(TENANT_ID, null, "en_US", COMPILED_TEMPLATE, placeholderValues,
+                    getSharedPlaceholders("v1")), TemplateCompiler.compile(TEMPLATE).render(placeholderValues));
+        }
+        assertEquals(renderedTemplateCache.getMissCount(), missCount + 1);
+        assertEquals(renderedTemplateCache.getHitCount(), hitCount + 2);
+    }
+
+    @Test
+    public void testRenderWithChangedBrandingVersion() {
+
+        Map<String, String> placeholderValues = getPlaceholderValues("john", "#FF7300");
+        renderedTemplateCache.render(TENANT_ID, "app-id", "en_US", COMPILED_TEMPLATE, placeholderValues,
+                getSharedPlaceholders("v1"));
+        long missCount = renderedTemplateCache.getMissCount();
+
+        placeholderValues = getPlaceholderValues("john", "#000000");
+        assertEquals(renderedTemplateCache.render(TENANT_ID, "app-id", "en_US", COMPILED_TEMPLATE, placeholderValues,
+                getSharedPlaceholders("v2")), TemplateCompiler.compile(TEMPLATE).render(placeholderValues));
+        assertEquals(renderedTemplateCache.getMissCount(), missCount + 1);
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        Map<String, String> placeholderValues = getPlaceholderValues("john", "#FF7300");
+        renderedTemplateCache.render(TENANT_ID, null, "en_US", COMPILED_TEMPLATE, placeholderValues,
+                getSharedPlaceholders("v1"));
+        renderedTemplateCache.invalidate(TENANT_ID);
+        long missCount = renderedTemplateCache.getMissCount();
+
+        renderedTemplateCache.render(TENANT_ID, null, "en_US", COMPILED_TEMPLATE, placeholderValues,
+                getSharedPlaceholders("v1"));
+        assertEquals(renderedTemplateCache.getMissCount(), missCount + 1);
+    }
+
+    @Test
+    public void testRenderWhenDisabled() {
+
+        renderedTemplateCache.setEnabled(false);
+        long hitCount = renderedTemplateCache.getHitCount();
+        long missCount = renderedTemplateCache.getMissCount();
+
+        Map<String, String> placeholderValues = getPlaceholderValues("john", "#FF7300");
+        assertEquals(renderedTemplateCache.render(TENANT_ID, null, "en_US", COMPILED_TEMPLATE, placeholderValues,
+                getSharedPlaceholders("v1")), TemplateCompiler.compile(TEMPLATE).render(placeholderValues));
+        assertEquals(renderedTemplateCache.getHitCount(), hitCount);
+        assertEquals(renderedTemplateCache.getMissCount(), missCount);
+    }
+
+    private static SharedPlaceholders getSharedPlaceholders(String brandingVersion) {
+
+        SharedPlaceholders sharedPlaceholders = new SharedPlaceholders();
+        sharedPlaceholders.add("primary-color");
+        sharedPlaceholders.add("carbon.product-url");
+        sharedPlaceholders.add("tenant-domain");
+        sharedPlaceholders.setBrandingVersion(brandingVersion);
+        sharedPlaceholders.setYear(2026);
+        return sharedPlaceholders;
+    }
+
+    private static Map<String, String> getPlaceholderValues(String userName, String primaryColor) {
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", userName);
+        placeholderValues.put("primary-color", primaryColor);
+        placeholderValues.put("carbon.product-url", "https://localhost:9443");
+        placeholderValues.put("tenant-domain", "carbon.super");
+        return placeholderValues;
+    }
+}
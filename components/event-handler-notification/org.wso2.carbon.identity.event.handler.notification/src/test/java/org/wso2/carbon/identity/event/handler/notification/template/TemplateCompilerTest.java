@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.event.handler.notification.cache.NotificationCacheTestUtils.spyCache;
+
+/**
+ * Class that contains the test cases for TemplateCompiler, CompiledTemplate, CompiledEmailTemplate and
+ * CompiledTemplateCache classes.
+ */
+public class TemplateCompilerTest {
+
+    @DataProvider(name = "templateDataProvider")
+    public Object[][] templateDataProvider() {
+
+        return new Object[][]{
+                {"Hi {{user-name}}, your code is {{confirmation-code}}."},
+                {"<a href=\"https://localhost/reset?user={{url:user-name}}&code={{confirmation-code}}\">Reset</a>"},
+                {"{{user-name}}{{user-name}}{{url:user-name}}"},
+                {"Unknown {{unknown-key}} and {{url:unknown-key}} are kept."},
+                {"Nested {{{user-name}} and {{ {{tenant-domain}} braces }}."},
+                {"Unclosed {{user-name and }} stray }}."},
+                {"Multi line {{user-\nname}} {{tenant-domain}}"},
+                {"No placeholders at all."},
+                {""}
+        };
+    }
+
+    @Test(dataProvider = "templateDataProvider")
+    public void testRenderMatchesRegexReplacement(String content) throws Exception {
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", "John Doe+$1\\ \u00e9");
+        placeholderValues.put("tenant-domain", "carbon.super");
+        placeholderValues.put("confirmation-code", "a1b2&c3");
+
+        assertEquals(TemplateCompiler.compile(content).render(placeholderValues),
+                replaceWithRegex(content, placeholderValues));
+    }
+
+    @Test
+    public void testRenderDoesNotReplacePlaceholdersOfValues() {
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", "{{tenant-domain}}");
+        placeholderValues.put("tenant-domain", "carbon.super");
+        placeholderValues.put("user.name", "John Doe");
+        String content = "Hi {{user-name}} of {{tenant-domain}}, {{user.name}} is not {{userXname}}.";
+
+        // The placeholders of the values and the keys matched as regex patterns are not replaced.
+        assertEquals(TemplateCompiler.compile(content).render(placeholderValues),
+                "Hi {{tenant-domain}} of carbon.super, John Doe is not {{userXname}}.");
+    }
+
+    @Test
+    public void testGetPlaceholders() {
+
+        CompiledTemplate template = TemplateCompiler.compile(
+                "{{user-name}} {{url:user-name}} {{tenant-domain}} {{user-name}}");
+
+        assertEquals(template.getPlaceholders(),
+                new HashSet<>(Arrays.asList("user-name", "url:user-name", "tenant-domain")));
+    }
+
+    @Test
+    public void testGetPlaceholderManifest() {
+
+        CompiledTemplate template = TemplateCompiler.compile("Hi {{user.claim.givenname}}, {{organization-name}} " +
+                "<a href=\"{{carbon.product-url}}/reset?user={{url:user-name}}\">Reset</a> Nested {{{tenant-domain}} " +
+                "Multi line {{user-\nname}}. Unclosed {{key");
+        PlaceholderManifest manifest = template.getPlaceholderManifest();
+
+        assertEquals(manifest.getPlaceholders(), template.getPlaceholders());
+        assertEquals(manifest.getPlaceholders(), new HashSet<>(Arrays.asList("user.claim.givenname",
+                "organization-name", "carbon.product-url", "url:user-name", "tenant-domain")));
+        assertEquals(manifest.getUserClaimPlaceholders(), Collections.singleton("user.claim.givenname"));
+        assertEquals(manifest.getBrandingPlaceholders(), Collections.singleton("organization-name"));
+        assertEquals(manifest.getUrlEncodedPlaceholders(), Collections.singleton("user-name"));
+        assertSame(template.getPlaceholderManifest(), manifest);
+    }
+
+    @Test
+    public void testRenderWithoutPlaceholdersReturnsContent() {
+
+        String content = "Static content";
+        assertSame(TemplateCompiler.compile(content).render(new HashMap<>()), content);
+    }
+
+    @Test
+    public void testCompiledTemplateCacheReusesCompiledTemplates() {
+
+        CompiledTemplateCache cache = spyCache(CompiledTemplateCache.getInstance());
+        cache.setEnabled(true);
+        String content = "Cached template for {{user-name}} " + System.nanoTime();
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+
+        CompiledTemplate compiledTemplate = cache.getCompiledTemplate(content);
+        assertSame(cache.getCompiledTemplate(new String(content)), compiledTemplate);
+        assertSame(cache.getCompiledTemplate(CompiledTemplateCache.getContentHash(content), content),
+                compiledTemplate);
+        assertEquals(cache.getMissCount(), missCount + 1);
+        assertEquals(cache.getHitCount(), hitCount + 2);
+    }
+
+    @Test
+    public void testLocalCompiledTemplateLookup() {
+
+        CompiledTemplateCache cache = spyCache(CompiledTemplateCache.getInstance());
+        cache.setEnabled(true);
+        String content = "Local template for {{user-name}} " + System.nanoTime();
+
+        CompiledTemplate compiledTemplate = cache.getCompiledTemplate(content);
+        assertSame(cache.getCompiledTemplate(content), compiledTemplate);
+        assertSame(cache.getCompiledTemplate(new String(content)), compiledTemplate);
+        verify(cache, times(1)).getValueFromCache(any(), anyInt());
+    }
+
+    @Test
+    public void testGetCompiledEmailTemplate() {
+
+        CompiledTemplateCache cache = spyCache(CompiledTemplateCache.getInstance());
+        cache.setEnabled(true);
+        String body = "Your code is {{confirmation-code}}. " + System.nanoTime();
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setSubject("Hi {{user-name}}");
+        emailTemplate.setBody(body);
+
+        CompiledEmailTemplate compiledEmailTemplate = cache.getCompiledEmailTemplate(emailTemplate);
+        assertSame(compiledEmailTemplate.getBody(), cache.getCompiledTemplate(body));
+        assertNull(compiledEmailTemplate.getFooter());
+        assertEquals(compiledEmailTemplate.getPlaceholderManifest().getPlaceholders(),
+                new HashSet<>(Arrays.asList("user-name", "confirmation-code")));
+
+        EmailTemplate sameEmailTemplate = new EmailTemplate();
+        sameEmailTemplate.setSubject(new String("Hi {{user-name}}"));
+        sameEmailTemplate.setBody(new String(body));
+        sameEmailTemplate.setFooter("");
+        assertSame(cache.getCompiledEmailTemplate(sameEmailTemplate), compiledEmailTemplate);
+    }
+
+    @Test
+    public void testLocalCompiledTemplateEviction() {
+
+        CompiledTemplateCache cache = spyCache(CompiledTemplateCache.getInstance());
+        cache.setEnabled(true);
+        long evictionCount = cache.getEvictionCount();
+
+        for (int i = 0; i <= 1000; i++) {
+            cache.getCompiledTemplate("Evicted template " + i + " for {{user-name}} " + System.nanoTime());
+        }
+        assertTrue(cache.getEvictionCount() > evictionCount);
+    }
+
+    @Test
+    public void testContentHash() {
+
+        String content = "Hi {{user-name}}, your code is {{confirmation-code}}.";
+
+        assertEquals(CompiledTemplateCache.getContentHash(new String(content)),
+                CompiledTemplateCache.getContentHash(content));
+        assertNotEquals(CompiledTemplateCache.getContentHash(content + " "),
+                CompiledTemplateCache.getContentHash(content));
+        assertEquals(CompiledTemplateCache.getContentHash(null), CompiledTemplateCache.getContentHash(""));
+    }
+
+    @Test
+    public void testSerializedCompiledTemplate() throws Exception {
+
+        CompiledTemplate compiledTemplate = TemplateCompiler.compile(
+                "<a href=\"https://localhost/reset?user={{url:user-name}}\">{{user-name}}</a>");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(compiledTemplate);
+        }
+        CompiledTemplate deserializedTemplate;
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            deserializedTemplate = (CompiledTemplate) objectInputStream.readObject();
+        }
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", "John Doe");
+        assertEquals(deserializedTemplate.getPlaceholders(), compiledTemplate.getPlaceholders());
+        assertEquals(deserializedTemplate.render(placeholderValues), compiledTemplate.render(placeholderValues));
+    }
+
+    private static String replaceWithRegex(String content, Map<String, String> tagsData)
+            throws UnsupportedEncodingException {
+
+        for (Map.Entry<String, String> entry : tagsData.entrySet()) {
+            content = content.replaceAll("\\{\\{url:" + entry.getKey() + "\\}\\}",
+                    URLEncoder.encode(entry.getValue(), "UTF-8"));
+            content = content.replaceAll("\\{\\{" + entry.getKey() + "\\}\\}",
+                    Matcher.quoteReplacement(entry.getValue()));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.URLEncoder;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Class that contains the test cases for UrlEncoder class.
+ */
+public class UrlEncoderTest {
+
+    @DataProvider(name = "valueDataProvider")
+    public Object[][] valueDataProvider() {
+
+        return new Object[][]{
+                {"john.doe-1_*"},
+                {"John Doe+$1\\ &=?/#%~"},
+                {"user@example.com"},
+                {"\u00e9\u07ff\u0800\u20ac\uffff"},
+                {"\ud83d\ude00 emoji"},
+                {"unpaired \ud800 high and \udc00 low \ud83d"},
+                {"\u0000\u007f"},
+                {""}
+        };
+    }
+
+    @Test(dataProvider = "valueDataProvider")
+    public void testEncodeMatchesURLEncoder(String value) throws Exception {
+
+        StringBuilder builder = new StringBuilder();
+        UrlEncoder.encode(builder, value);
+        assertEquals(builder.toString(), URLEncoder.encode(value, "UTF-8"));
+    }
+}
@@ -35,8 +35,10 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.email.mgt.EmailTemplateManager;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
+import org.wso2.carbon.email.mgt.constants.TemplateMgtConstants.TemplatePlaceholders;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.PlaceholderManifest;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
 import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
@@ -47,21 +49,30 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceSnapshot;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledTemplateCache;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification.ORGANIZATION_NAME_PLACEHOLDER;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification.UTM_PARAMETERS_PLACEHOLDER;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification.UTM_PARAMETER_PREFIX;
@@ -340,6 +351,22 @@ public class NotificationUtilTest {
         }
     }
 
+    @Test(dataProvider = "GetBrandingPreferenceDataProvider")
+    public void testGetBrandingPlaceholderValues(JsonNode brandingPreferences, Map<String, String> brandingFallback,
+                                                 int caseNo) {
+
+        BrandingPreferenceSnapshot snapshot = new BrandingPreferenceSnapshot(brandingPreferences);
+        Map<String, String> brandingPlaceholderValues =
+                NotificationUtil.getBrandingPlaceholderValues(snapshot, brandingFallback);
+
+        for (String placeholder : TemplatePlaceholders.BRANDING_PLACEHOLDERS) {
+            assertEquals(brandingPlaceholderValues.get(placeholder),
+                    NotificationUtil.getBrandingPreference(placeholder, brandingPreferences, brandingFallback));
+        }
+        assertSame(NotificationUtil.getBrandingPlaceholderValues(snapshot, brandingFallback),
+                brandingPlaceholderValues);
+    }
+
     @Test
     public void testGetNotificationLocale() {
 
@@ -444,6 +471,128 @@ public class NotificationUtilTest {
         }
     }
 
+    @DataProvider(name = "ResolveTemplatePlaceholdersOnlyDataProvider")
+    public Object[][] provideResolveTemplatePlaceholdersOnlyTestData() {
+
+        return new Object[][] {
+                {"Your code is {{confirmation-code}}.", false},
+                {"Hi {{user-name}}, reset at {{carbon.product-url}}/reset?user={{url:user-name}} or " +
+                        "{{account.recovery.endpoint-url}}. Login at {{authentication.endpoint-url}} " +
+                        "{{carbon.product-url-with-user-tenant}}", true},
+                {"Recover at {{url:account.recovery.endpoint-url}}", false}
+        };
+    }
+
+    @Test(dataProvider = "ResolveTemplatePlaceholdersOnlyDataProvider")
+    public void testResolveTemplatePlaceholdersOnlyKeepsRenderedOutput(String body, boolean serverUrlUsed) {
+
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setSubject("Sample Subject");
+        emailTemplate.setBody(body);
+        emailTemplate.setFooter("Sample Footer");
+
+        try (
+                MockedStatic<IdentityConfigParser> staticMockedIdentityConfigParser =
+                        Mockito.mockStatic(IdentityConfigParser.class);
+                MockedStatic<IdentityUtil> staticMockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+                MockedStatic<ConfigurationFacade> staticMockedConfigurationFacade =
+                        Mockito.mockStatic(ConfigurationFacade.class);
+                MockedStatic<ServiceURLBuilder> staticMockedServiceURLBuilder =
+                        Mockito.mockStatic(ServiceURLBuilder.class);
+        ) {
+            mockIdentityConfigParser(staticMockedIdentityConfigParser);
+            staticMockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                    NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))
+                    .thenReturn("false");
+            mockConfigurationFacade(staticMockedConfigurationFacade);
+
+            ServiceURL serviceURL = mock(ServiceURL.class);
+            when(serviceURL.getAbsolutePublicURL()).thenReturn("https://wso2test.com");
+            when(serviceURL.getAbsolutePublicUrlWithoutPath()).thenReturn("https://wso2test.com");
+            ServiceURLBuilder mockedServiceURLBuilder = mock(ServiceURLBuilder.class);
+            when(mockedServiceURLBuilder.build()).thenReturn(serviceURL);
+            staticMockedServiceURLBuilder.when(ServiceURLBuilder::create).thenReturn(mockedServiceURLBuilder);
+
+            String expectedBody = renderBody(emailTemplate, false);
+            staticMockedServiceURLBuilder.clearInvocations();
+            String body = renderBody(emailTemplate, true);
+
+            assertEquals(body, expectedBody);
+            staticMockedServiceURLBuilder.verify(Mockito.times(serverUrlUsed ? 1 : 0), ServiceURLBuilder::create);
+        } finally {
+            NotificationHandlerDataHolder.getInstance().setResolveTemplatePlaceholdersOnly(false);
+        }
+    }
+
+    private String renderBody(EmailTemplate emailTemplate, boolean resolveTemplatePlaceholdersOnly) {
+
+        NotificationHandlerDataHolder.getInstance().setResolveTemplatePlaceholdersOnly(
+                resolveTemplatePlaceholdersOnly);
+        Map<String, String> placeHolderData = new HashMap<>();
+        placeHolderData.put("user-name", "John Doe");
+        placeHolderData.put("confirmation-code", "123456");
+        placeHolderData.put(NotificationConstants.TENANT_DOMAIN, SUPER_TENANT_DOMAIN_NAME);
+
+        NotificationUtil.getPlaceholderValues(emailTemplate, placeHolderData, new HashMap<>(), null);
+        return CompiledTemplateCache.getInstance().getCompiledTemplate(emailTemplate.getBody())
+                .render(placeHolderData);
+    }
+
+    @DataProvider(name = "publisherMappedFieldsDataProvider")
+    public Object[][] providePublisherMappedFieldsTestData() {
+
+        return new Object[][] {
+                {new HashSet<>(Arrays.asList("body", "send-to")), false, false},
+                {new HashSet<>(Arrays.asList("body", "carbon.product-url")), true, false},
+                {null, true, true}
+        };
+    }
+
+    @Test(dataProvider = "publisherMappedFieldsDataProvider")
+    public void testGetPlaceholderValuesForPublishers(Set<String> publisherMappedFields, boolean serverUrlResolved,
+                                                      boolean accountRecoveryUrlResolved) {
+
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setBody("Your code is {{confirmation-code}}.");
+
+        try (
+                MockedStatic<IdentityConfigParser> staticMockedIdentityConfigParser =
+                        Mockito.mockStatic(IdentityConfigParser.class);
+                MockedStatic<IdentityUtil> staticMockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+                MockedStatic<ConfigurationFacade> staticMockedConfigurationFacade =
+                        Mockito.mockStatic(ConfigurationFacade.class);
+                MockedStatic<ServiceURLBuilder> staticMockedServiceURLBuilder =
+                        Mockito.mockStatic(ServiceURLBuilder.class);
+        ) {
+            mockIdentityConfigParser(staticMockedIdentityConfigParser);
+            staticMockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                    NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))
+                    .thenReturn("false");
+            mockConfigurationFacade(staticMockedConfigurationFacade);
+
+            ServiceURL serviceURL = mock(ServiceURL.class);
+            when(serviceURL.getAbsolutePublicURL()).thenReturn("https://wso2test.com");
+            when(serviceURL.getAbsolutePublicUrlWithoutPath()).thenReturn("https://wso2test.com");
+            ServiceURLBuilder mockedServiceURLBuilder = mock(ServiceURLBuilder.class);
+            when(mockedServiceURLBuilder.build()).thenReturn(serviceURL);
+            staticMockedServiceURLBuilder.when(ServiceURLBuilder::create).thenReturn(mockedServiceURLBuilder);
+
+            Map<String, String> placeHolderData = new HashMap<>();
+            placeHolderData.put("confirmation-code", "123456");
+            placeHolderData.put(NotificationConstants.TENANT_DOMAIN, SUPER_TENANT_DOMAIN_NAME);
+            NotificationUtil.getPlaceholderValuesForPublishers(emailTemplate, placeHolderData, new HashMap<>(),
+                    publisherMappedFields);
+
+            assertEquals(placeHolderData.containsKey(
+                    NotificationConstants.EmailNotification.CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER),
+                    serverUrlResolved);
+            assertEquals(placeHolderData.containsKey(
+                    NotificationConstants.EmailNotification.ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER),
+                    accountRecoveryUrlResolved);
+            staticMockedServiceURLBuilder.verify(Mockito.times(serverUrlResolved ? 1 : 0), ServiceURLBuilder::create);
+        }
+    }
+
     @DataProvider(name = "resolveSuperTenantOrganizationNameDataProvider")
     public Object[][] resolveSuperTenantOrganizationNameDataProvider() {
 
@@ -489,6 +638,143 @@ public class NotificationUtilTest {
         when(mockEmailTemplate.getBody()).thenReturn(SAMPLE_EMAIL_BODY);
     }
 
+    @Test
+    public void testLoadConfigFileValues() {
+
+        try (MockedStatic<IdentityConfigParser> staticMockedIdentityConfigParser =
+                     Mockito.mockStatic(IdentityConfigParser.class)) {
+            mockIdentityConfigParser(staticMockedIdentityConfigParser);
+
+            NotificationUtil.loadConfigFileValues();
+            Map<String, String> configFilePlaceholders = NotificationUtil.getConfigFilePlaceholders();
+            Map<String, String> brandingFallbacks = NotificationUtil.getBrandingFallbacksFromConfigFile();
+
+            Assert.assertTrue(configFilePlaceholders.isEmpty());
+            Assert.assertTrue(brandingFallbacks.isEmpty());
+            assertSame(NotificationUtil.getConfigFilePlaceholders(), configFilePlaceholders);
+            assertSame(NotificationUtil.getBrandingFallbacksFromConfigFile(), brandingFallbacks);
+            // The configuration is read only when the values are loaded.
+            staticMockedIdentityConfigParser.verify(Mockito.times(2), IdentityConfigParser::getInstance);
+        } finally {
+            NotificationHandlerDataHolder.getInstance().setConfigFilePlaceholders(null);
+            NotificationHandlerDataHolder.getInstance().setBrandingFallbacks(null);
+        }
+    }
+
+    @Test
+    public void testGetTemplateClaimURIs() {
+
+        PlaceholderManifest manifest = new PlaceholderManifest.Builder()
+                .addPlaceholder("user.claim.givenname")
+                .addUserClaimPlaceholder("user.claim.givenname")
+                .addPlaceholder("url:user.claim.lastname")
+                .addUserClaimPlaceholder("url:user.claim.lastname")
+                .addPlaceholder("user.claim.identity.accountLockedReason")
+                .addIdentityClaimPlaceholder("user.claim.identity.accountLockedReason")
+                .addPlaceholder("user-name")
+                .build();
+
+        assertEquals(NotificationUtil.getTemplateClaimURIs(manifest), new HashSet<>(Arrays.asList(
+                "http://wso2.org/claims/givenname", "http://wso2.org/claims/lastname",
+                "http://wso2.org/claims/identity/accountLockedReason")));
+    }
+
+    @Test
+    public void testPrefetchUserClaimValues() throws Exception {
+
+        try (MockedStatic<NotificationHandlerDataHolder> notificationHandlerDataHolder =
+                     mockStatic(NotificationHandlerDataHolder.class)) {
+            mockNotificationHandlerDataHolder(notificationHandlerDataHolder);
+            when(NotificationHandlerDataHolder.getInstance().getUserClaimBatchSize()).thenReturn(1);
+            when(mockEmailTemplateManager.getEmailTemplate(any(), any(), any())).thenReturn(mockEmailTemplate);
+            when(mockEmailTemplate.getSubject()).thenReturn("Hi {{user.claim.givenname}}");
+
+            Map<String, String> claims = new HashMap<>();
+            claims.put(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL, SAMPLE_EMAIL);
+            UserClaimSearchEntry userClaimSearchEntry = new UserClaimSearchEntry();
+            userClaimSearchEntry.setUserName("alex");
+            userClaimSearchEntry.setClaims(claims);
+            UserStoreManager userStoreManager = mock(UserStoreManager.class);
+            when(userStoreManager.getUsersClaimValues(any(), any(), any()))
+                    .thenReturn(new UserClaimSearchEntry[]{userClaimSearchEntry});
+
+            Event alexEvent = buildNotificationEvent("alex", userStoreManager);
+            Event kimEvent = buildNotificationEvent("kim", userStoreManager);
+            Event federatedUserEvent = buildNotificationEvent("sam", userStoreManager);
+            federatedUserEvent.getEventProperties().put(NotificationConstants.IS_FEDERATED_USER, true);
+
+            NotificationUtil.prefetchUserClaimValues(Arrays.asList(alexEvent, kimEvent, federatedUserEvent));
+
+            assertEquals(alexEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS), claims);
+            Assert.assertTrue(Arrays.asList((String[]) alexEvent.getEventProperties()
+                    .get(NotificationConstants.PREFETCHED_CLAIM_URIS)).contains("http://wso2.org/claims/givenname"));
+            // Claims of the users not returned by the user store are retrieved when the notification is built.
+            Assert.assertNull(kimEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS));
+            Assert.assertNull(
+                    federatedUserEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS));
+            Mockito.verify(userStoreManager, Mockito.times(2)).getUsersClaimValues(any(), any(), any());
+        }
+    }
+
+    @Test
+    public void testPrefetchUserClaimValuesOfSecondaryUserStore() throws Exception {
+
+        try (MockedStatic<NotificationHandlerDataHolder> notificationHandlerDataHolder =
+                     mockStatic(NotificationHandlerDataHolder.class)) {
+            mockNotificationHandlerDataHolder(notificationHandlerDataHolder);
+            when(NotificationHandlerDataHolder.getInstance().getUserClaimBatchSize()).thenReturn(10);
+            when(mockEmailTemplateManager.getEmailTemplate(any(), any(), any())).thenReturn(mockEmailTemplate);
+            when(mockEmailTemplate.getSubject()).thenReturn("Hi {{user.claim.givenname}}");
+
+            Map<String, String> primaryClaims = new HashMap<>();
+            primaryClaims.put(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL, SAMPLE_EMAIL);
+            Map<String, String> secondaryClaims = new HashMap<>();
+            secondaryClaims.put(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL, "alex@secondary.com");
+            UserStoreManager userStoreManager = mock(UserStoreManager.class);
+            when(userStoreManager.getUsersClaimValues(aryEq(new String[]{"alex"}), any(), any()))
+                    .thenReturn(new UserClaimSearchEntry[]{buildUserClaimSearchEntry("alex", primaryClaims)});
+            // The user store returns the name without the domain, which belongs to the secondary user store.
+            when(userStoreManager.getUsersClaimValues(aryEq(new String[]{"SECONDARY/alex", "SECONDARY/kim"}),
+                    any(), any()))
+                    .thenReturn(new UserClaimSearchEntry[]{buildUserClaimSearchEntry("alex", secondaryClaims)});
+
+            Event primaryUserEvent = buildNotificationEvent("alex", userStoreManager);
+            Event secondaryUserEvent = buildNotificationEvent("alex", userStoreManager);
+            secondaryUserEvent.getEventProperties().put(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN,
+                    "secondary");
+            Event qualifiedSecondaryUserEvent = buildNotificationEvent("SECONDARY/kim", userStoreManager);
+
+            NotificationUtil.prefetchUserClaimValues(
+                    Arrays.asList(primaryUserEvent, secondaryUserEvent, qualifiedSecondaryUserEvent));
+
+            assertEquals(primaryUserEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS),
+                    primaryClaims);
+            assertEquals(secondaryUserEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS),
+                    secondaryClaims);
+            Assert.assertNull(
+                    qualifiedSecondaryUserEvent.getEventProperties().get(NotificationConstants.PREFETCHED_USER_CLAIMS));
+            Mockito.verify(userStoreManager, Mockito.times(2)).getUsersClaimValues(any(), any(), any());
+        }
+    }
+
+    private UserClaimSearchEntry buildUserClaimSearchEntry(String username, Map<String, String> claims) {
+
+        UserClaimSearchEntry userClaimSearchEntry = new UserClaimSearchEntry();
+        userClaimSearchEntry.setUserName(username);
+        userClaimSearchEntry.setClaims(claims);
+        return userClaimSearchEntry;
+    }
+
+    private Event buildNotificationEvent(String username, UserStoreManager userStoreManager) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, username);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_MANAGER, userStoreManager);
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, SUPER_TENANT_DOMAIN_NAME);
+        eventProperties.put(NotificationConstants.EmailNotification.EMAIL_TEMPLATE_TYPE, "passwordReset");
+        return new Event(IdentityEventConstants.Event.TRIGGER_NOTIFICATION, eventProperties);
+    }
+
     private void mockIdentityConfigParser(MockedStatic<IdentityConfigParser> identityConfigParser) {
 
         IdentityConfigParser mockIdentityConfigParser = mock(IdentityConfigParser.class);
@@ -94,7 +94,6 @@ import static org.wso2.carbon.identity.notification.sender.tenant.config.Notific
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.MAPPING;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.MAPPING_TYPE_KEY;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PASSWORD;
-import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PLACEHOLDER_IDENTIFIER;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PROCESSING_KEY;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PROPERTIES_TO_SKIP_AT_ADAPTER_CONFIG;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PROVIDER;
@@ -282,7 +281,8 @@ public class NotificationSenderUtils {
             String smsSendAPIBodyTemplate = NotificationSenderTenantConfigDataHolder.getInstance()
                     .getSmsProviderPayloadTemplateManager()
                     .getSMSProviderPayloadTemplateByProvider(smsSender.getProvider()).getBody();
-            smsSendAPIBody = generateSmsSendAPIBody(smsSendAPIBodyTemplate, smsSender);
+            smsSendAPIBody = generateSmsSendAPIBody(SMSSendAPIBodyTemplate.getTemplate(smsSender.getProvider(),
+                    smsSendAPIBodyTemplate), smsSender);
         }
         inline.appendChild(document.createTextNode(smsSendAPIBody));
         mapping.appendChild(inline);
@@ -397,13 +397,13 @@ public class NotificationSenderUtils {
     /**
      * Generate SMS send API body using template and input params.
      *
-     * @param smsSendAPIBodyTemplate    SMS sender's send SMS API payload template.
+     * @param smsSendAPIBodyTemplate    SMS sender's parsed send SMS API payload template.
      * @param smsSender                 SMS sender post body.
      * @return Inline body for SMSPublisher.
      */
-    private static String generateSmsSendAPIBody(String smsSendAPIBodyTemplate, SMSSenderDTO smsSender) {
+    private static String generateSmsSendAPIBody(SMSSendAPIBodyTemplate smsSendAPIBodyTemplate,
+                                                 SMSSenderDTO smsSender) {
 
-        String inlineBody = smsSendAPIBodyTemplate;
         Map<String, String> inlineBodyProperties = new HashMap<>();
         /*
         key, secret, sender inputs or any property defined with key value starting from "body." are considered
@@ -420,11 +420,8 @@ public class NotificationSenderUtils {
         }
         inlineBodyProperties.putAll(smsSender.getProperties());
 
-        for (Map.Entry property : inlineBodyProperties.entrySet()) {
-            inlineBody =
-                    inlineBody.replace(PLACEHOLDER_IDENTIFIER + property.getKey(), (CharSequence) property.getValue());
-        }
-        return inlineBody;
+        // All the placeholders are replaced in a single pass, using the longest matching property name.
+        return smsSendAPIBodyTemplate.render(inlineBodyProperties);
     }
 
     /**
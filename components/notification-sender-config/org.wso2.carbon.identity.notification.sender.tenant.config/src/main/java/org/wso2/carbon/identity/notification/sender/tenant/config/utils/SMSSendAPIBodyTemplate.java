@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.sender.tenant.config.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.PLACEHOLDER_IDENTIFIER;
+
+/**
+ * Parsed form of an SMS provider's send SMS API payload template. The template is split once at the placeholder
+ * identifiers, so that the inline body of the SMS publisher is generated in a single pass over the template. When more
+ * than one property name matches at a placeholder identifier (eg: $key and $keyId), the longest property name is used.
+ */
+public class SMSSendAPIBodyTemplate {
+
+    private static final ConcurrentMap<String, SMSSendAPIBodyTemplate> templatesByProvider = new ConcurrentHashMap<>();
+
+    private static final Comparator<String> LONGEST_FIRST = Comparator.comparingInt(String::length).reversed();
+
+    private final String content;
+    // Literal text of the template. literals[i + 1] follows the placeholder identifier at identifierOffsets[i].
+    private final String[] literals;
+    private final int[] identifierOffsets;
+
+    private SMSSendAPIBodyTemplate(String content) {
+
+        this.content = content;
+        List<String> literalList = new ArrayList<>();
+        List<Integer> offsetList = new ArrayList<>();
+        int literalStart = 0;
+        int index = content.indexOf(PLACEHOLDER_IDENTIFIER);
+        while (index >= 0) {
+            literalList.add(content.substring(literalStart, index));
+            offsetList.add(index);
+            literalStart = index + PLACEHOLDER_IDENTIFIER.length();
+            index = content.indexOf(PLACEHOLDER_IDENTIFIER, literalStart);
+        }
+        literalList.add(content.substring(literalStart));
+
+        this.literals = literalList.toArray(new String[0]);
+        this.identifierOffsets = new int[offsetList.size()];
+        for (int i = 0; i < identifierOffsets.length; i++) {
+            identifierOffsets[i] = offsetList.get(i);
+        }
+    }
+
+    /**
+     * Get the parsed form of the send SMS API payload template of the given provider. The parsed template is cached
+     * per provider and parsed again only if the template content of the provider changes.
+     *
+     * @param provider SMS provider.
+     * @param content  Send SMS API payload template of the provider.
+     * @return Parsed send SMS API payload template.
+     */
+    public static SMSSendAPIBodyTemplate getTemplate(String provider, String content) {
+
+        if (provider == null) {
+            return new SMSSendAPIBodyTemplate(content);
+        }
+        SMSSendAPIBodyTemplate template = templatesByProvider.get(provider);
+        if (template == null || !template.content.equals(content)) {
+            template = new SMSSendAPIBodyTemplate(content);
+            templatesByProvider.put(provider, template);
+        }
+        return template;
+    }
+
+    /**
+     * Generate the inline body by replacing the placeholders of the template with the given property values.
+     * Placeholders without a matching property are kept as they are.
+     *
+     * @param properties Properties to be replaced, keyed by the name without the placeholder identifier.
+     * @return Inline body.
+     */
+    public String render(Map<String, String> properties) {
+
+        if (identifierOffsets.length == 0 || properties.isEmpty()) {
+            return content;
+        }
+        String[] propertyNames = properties.keySet().toArray(new String[0]);
+        Arrays.sort(propertyNames, LONGEST_FIRST);
+
+        StringBuilder builder = new StringBuilder(content.length() + 16 * identifierOffsets.length);
+        builder.append(literals[0]);
+        int skip = 0;
+        for (int i = 0; i < identifierOffsets.length; i++) {
+            int nameOffset = identifierOffsets[i] + PLACEHOLDER_IDENTIFIER.length();
+            String literal = literals[i + 1];
+            if (skip >= nameOffset) {
+                // The placeholder identifier is a part of a property name already replaced.
+                if (skip < nameOffset + literal.length()) {
+                    builder.append(literal, skip - nameOffset, literal.length());
+                }
+                continue;
+            }
+            String propertyName = getLongestMatch(propertyNames, nameOffset);
+            String value = propertyName == null ? null : properties.get(propertyName);
+            if (value == null) {
+                builder.append(PLACEHOLDER_IDENTIFIER).append(literal);
+                continue;
+            }
+            builder.append(value);
+            skip = nameOffset + propertyName.length();
+            if (propertyName.length() < literal.length()) {
+                builder.append(literal, propertyName.length(), literal.length());
+            }
+        }
+        return builder.toString();
+    }
+
+    private String getLongestMatch(String[] propertyNames, int offset) {
+
+        for (String propertyName : propertyNames) {
+            if (propertyName != null && content.startsWith(propertyName, offset)) {
+                return propertyName;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.sender.tenant.config.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link SMSSendAPIBodyTemplate}.
+ */
+public class SMSSendAPIBodyTemplateTest {
+
+    @DataProvider(name = "renderDataProvider")
+    public Object[][] renderDataProvider() {
+
+        return new Object[][]{
+                {"{\"from\" : \"$sender\", \"api_key\" = \"$key\", \"api_secret\" = \"$secret\"}",
+                        "{\"from\" : \"Sender\", \"api_key\" = \"Key\", \"api_secret\" = \"$secret\"}"},
+                {"Key=$key,KeyId=$keyId,Other=$other", "Key=Key,KeyId=KeyId,Other=$other"},
+                {"$keyId$key$$sender", "KeyIdKey$Sender"},
+                {"Body={{body}},To={{mobile}}", "Body={{body}},To={{mobile}}"},
+                {"", ""}
+        };
+    }
+
+    @Test(dataProvider = "renderDataProvider")
+    public void testRender(String content, String expected) {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("key", "Key");
+        properties.put("keyId", "KeyId");
+        properties.put("sender", "Sender");
+
+        Assert.assertEquals(SMSSendAPIBodyTemplate.getTemplate(null, content).render(properties), expected);
+    }
+
+    @Test
+    public void testGetTemplateIsCachedPerProvider() {
+
+        SMSSendAPIBodyTemplate template = SMSSendAPIBodyTemplate.getTemplate("Twilio", "From=$sender");
+        Assert.assertSame(SMSSendAPIBodyTemplate.getTemplate("Twilio", "From=$sender"), template);
+        Assert.assertNotSame(SMSSendAPIBodyTemplate.getTemplate("Twilio", "Sender=$sender"), template);
+    }
+}